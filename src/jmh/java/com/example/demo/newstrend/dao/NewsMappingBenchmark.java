@@ -0,0 +1,302 @@
+package com.example.demo.newstrend.dao;
+
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.builder.xml.XMLConfigBuilder;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.logging.nologging.NoLoggingImpl;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.newstrend.dto.response.NewsAnalysisResponse;
+import com.example.demo.newstrend.dto.response.NewsKeywordResponse;
+import com.example.demo.newstrend.dto.response.NewsSummaryResponse;
+import com.example.demo.newstrend.dto.response.SentimentScores;
+import com.example.demo.newstrend.entity.NewsSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 뉴스 피드 행 → NewsAnalysisResponse 변환 비용 비교 (./gradlew jmh)
+ * - 두 방식 모두 실제 mapper-config.xml + newsSummary.xml 설정으로 MyBatis DefaultResultSetHandler를 거쳐 매핑
+ *   (ResultSet은 PostgreSQL 드라이버가 돌려주는 컬럼 구성/타입을 흉내 낸 메모리 구현)
+ * - legacyJsonMapping: 기존 방식 - selectNewsSummaryBySourceUrl(NewsSummary, JSON 문자열 컬럼)
+ *   → 기존 convertToResponse (행마다 기본값 객체 생성 + analysis_json/keywords_json Jackson 파싱 2회)
+ * - projectionMapping: 현재 방식 - selectNewsAnalysisById(NewsAnalysisResponseMap, SQL에서 펼친 컬럼
+ *   + text[] 키워드를 KeywordListTypeHandler로 변환)
+ * - DB 쪽 JSON 추출(CASE/->>) 비용은 포함하지 않음 (애플리케이션 서버의 행당 변환 비용만 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NewsMappingBenchmark {
+
+    private static final String NAMESPACE = "com.example.demo.newstrend.dao.NewsSummaryDao.";
+
+    private static final String ANALYSIS_JSON = """
+            {"summary":"AI 채용 확대","detailSummary":"주요 기업들이 AI 직무 채용을 확대하고 있다.",
+             "sentiment":"긍정","sentimentScores":{"positive":70,"neutral":25,"negative":5},
+             "biasDetected":false,"biasType":"없음","category":"IT"}""";
+
+    private static final String KEYWORDS_JSON = """
+            [{"keyword":"AI"},{"keyword":"채용"},{"keyword":"데이터"},{"keyword":"개발자"},{"keyword":"스타트업"}]""";
+
+    private static final String[] KEYWORD_ARRAY = { "AI", "채용", "데이터", "개발자", "스타트업" };
+
+    // 기존 조회 컬럼 (selectNewsSummaryBySourceUrl)
+    private static final Column[] LEGACY_COLUMNS = {
+            new Column("summary_id", Types.INTEGER, Integer.class),
+            new Column("member_id", Types.INTEGER, Integer.class),
+            new Column("source_name", Types.VARCHAR, String.class),
+            new Column("source_url", Types.VARCHAR, String.class),
+            new Column("title", Types.VARCHAR, String.class),
+            new Column("published_at", Types.TIMESTAMP, Timestamp.class),
+            new Column("summary_text", Types.VARCHAR, String.class),
+            new Column("detail_summary", Types.VARCHAR, String.class),
+            new Column("analysis_json", Types.OTHER, String.class), // jsonb
+            new Column("keywords_json", Types.OTHER, String.class), // jsonb
+            new Column("created_at", Types.TIMESTAMP, Timestamp.class),
+    };
+
+    // 현재 조회 컬럼 (newsAnalysisColumns)
+    private static final Column[] PROJECTION_COLUMNS = {
+            new Column("summary_id", Types.INTEGER, Integer.class),
+            new Column("title", Types.VARCHAR, String.class),
+            new Column("source_name", Types.VARCHAR, String.class),
+            new Column("source_url", Types.VARCHAR, String.class),
+            new Column("published_at", Types.TIMESTAMP, Timestamp.class),
+            new Column("summary_text", Types.VARCHAR, String.class),
+            new Column("detail_summary", Types.VARCHAR, String.class),
+            new Column("sentiment", Types.VARCHAR, String.class),
+            new Column("sentiment_positive", Types.INTEGER, Integer.class),
+            new Column("sentiment_neutral", Types.INTEGER, Integer.class),
+            new Column("sentiment_negative", Types.INTEGER, Integer.class),
+            new Column("bias_detected", Types.BIT, Boolean.class), // PostgreSQL boolean
+            new Column("bias_type", Types.VARCHAR, String.class),
+            new Column("category", Types.VARCHAR, String.class),
+            new Column("keyword_list", Types.ARRAY, Array.class), // text[]
+            new Column("created_at", Types.TIMESTAMP, Timestamp.class),
+    };
+
+    // 피드 한 페이지 행 수
+    @Param({ "20" })
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private MappedStatement legacyStatement;
+    private MappedStatement projectionStatement;
+    private Object[][] legacyRows;
+    private Object[][] projectionRows;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+
+        Configuration configuration;
+        try (InputStream config = Resources.getResourceAsStream("mapper-config.xml")) {
+            configuration = new XMLConfigBuilder(config).parse();
+        }
+        configuration.setLogImpl(NoLoggingImpl.class); // STDOUT_LOGGING 출력이 측정에 섞이지 않도록
+        try (InputStream mapper = Resources.getResourceAsStream("mapper/newsSummary.xml")) {
+            new XMLMapperBuilder(mapper, configuration, "mapper/newsSummary.xml", configuration.getSqlFragments())
+                    .parse();
+        }
+        legacyStatement = configuration.getMappedStatement(NAMESPACE + "selectNewsSummaryBySourceUrl");
+        projectionStatement = configuration.getMappedStatement(NAMESPACE + "selectNewsAnalysisById");
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        legacyRows = new Object[rows][];
+        projectionRows = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            String url = "https://news.example.com/" + i;
+            String title = "AI 채용 확대 " + i;
+            String summary = "주요 기업들이 AI 직무 채용을 확대하고 있다.";
+            legacyRows[i] = new Object[] { i, 1, "예시일보", url, title, now, summary, summary,
+                    ANALYSIS_JSON, KEYWORDS_JSON, now };
+            projectionRows[i] = new Object[] { i, title, "예시일보", url, now, summary, summary,
+                    "긍정", 70, 25, 5, false, "없음", "IT", KEYWORD_ARRAY, now };
+        }
+    }
+
+    @Benchmark
+    public List<NewsAnalysisResponse> legacyJsonMapping() throws Exception {
+        List<NewsSummary> summaries = handle(legacyStatement, LEGACY_COLUMNS, legacyRows);
+        List<NewsAnalysisResponse> responses = new ArrayList<>(summaries.size());
+        for (NewsSummary summary : summaries) {
+            responses.add(convertToResponse(summary));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<NewsAnalysisResponse> projectionMapping() throws Exception {
+        return handle(projectionStatement, PROJECTION_COLUMNS, projectionRows);
+    }
+
+    // 조회 결과 행 → resultMap/resultType 매핑 (SqlSession이 쿼리 실행 후 하는 작업과 같음)
+    private static <T> List<T> handle(MappedStatement statement, Column[] columns, Object[][] data) throws Exception {
+        DefaultResultSetHandler handler = new DefaultResultSetHandler(
+                null, statement, null, null, null, RowBounds.DEFAULT);
+        return handler.handleResultSets(statementOf(resultSetOf(columns, data)));
+    }
+
+    // 기존 NewsSummaryService.convertToResponse와 같은 변환
+    private NewsAnalysisResponse convertToResponse(NewsSummary summary) throws Exception {
+        // 기존 코드와 같이 사용 여부와 관계없이 기본값 객체를 먼저 생성
+        NewsSummaryResponse defaultAnalysis = new NewsSummaryResponse();
+        defaultAnalysis.setSentiment("중립");
+        SentimentScores defaultScores = new SentimentScores();
+        defaultScores.setPositive(0);
+        defaultScores.setNegative(0);
+        defaultScores.setNeutral(100);
+        defaultAnalysis.setSentimentScores(defaultScores);
+        defaultAnalysis.setBiasDetected(false);
+        defaultAnalysis.setBiasType("없음");
+        defaultAnalysis.setCategory("일반");
+
+        NewsSummaryResponse analysis = summary.getAnalysisJson() != null && !summary.getAnalysisJson().trim().isEmpty()
+                ? objectMapper.readValue(summary.getAnalysisJson(), NewsSummaryResponse.class)
+                : defaultAnalysis;
+
+        List<NewsKeywordResponse> keywords = new ArrayList<>();
+        if (summary.getKeywordsJson() != null && !summary.getKeywordsJson().trim().isEmpty()) {
+            keywords = objectMapper.readValue(summary.getKeywordsJson(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, NewsKeywordResponse.class));
+        }
+
+        NewsAnalysisResponse response = new NewsAnalysisResponse();
+        response.setSummaryId(summary.getSummaryId());
+        response.setTitle(summary.getTitle());
+        response.setSourceName(summary.getSourceName());
+        response.setSourceUrl(summary.getSourceUrl());
+        response.setPublishedAt(summary.getPublishedAt());
+        response.setSummaryText(summary.getSummaryText());
+        response.setDetailSummary(summary.getDetailSummary());
+        response.setSentiment(analysis.getSentiment());
+        response.setSentimentScores(analysis.getSentimentScores());
+        response.setBiasDetected(analysis.getBiasDetected());
+        response.setBiasType(analysis.getBiasType());
+        response.setCategory(analysis.getCategory());
+        response.setKeywords(keywords);
+        response.setCreatedAt(summary.getCreatedAt());
+        return response;
+    }
+
+    // 결과 집합 하나만 돌려주는 Statement
+    private static Statement statementOf(ResultSet resultSet) {
+        return proxy(Statement.class, (method, args) -> switch (method) {
+            case "getResultSet" -> resultSet;
+            case "getUpdateCount" -> -1;
+            default -> null; // getConnection 등은 null → MyBatis가 다음 결과 집합이 없는 것으로 처리
+        });
+    }
+
+    // 메모리 행 목록을 앞에서부터 읽는 ResultSet (MyBatis 타입 핸들러가 쓰는 메서드만 구현)
+    private static ResultSet resultSetOf(Column[] columns, Object[][] data) {
+        ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (method, args) -> switch (method) {
+            case "getColumnCount" -> columns.length;
+            case "getColumnLabel", "getColumnName" -> columns[(int) args[0] - 1].name();
+            case "getColumnType" -> columns[(int) args[0] - 1].sqlType();
+            case "getColumnClassName" -> columns[(int) args[0] - 1].javaType().getName();
+            default -> throw new UnsupportedOperationException(method);
+        });
+
+        int[] cursor = { -1 };
+        boolean[] lastNull = { false };
+        return proxy(ResultSet.class, (method, args) -> {
+            switch (method) {
+                case "next":
+                    return ++cursor[0] < data.length;
+                case "getMetaData":
+                    return metaData;
+                case "getType":
+                    return ResultSet.TYPE_FORWARD_ONLY;
+                case "isClosed", "close":
+                    return false;
+                case "wasNull":
+                    return lastNull[0];
+                default:
+                    break;
+            }
+
+            Object value = data[cursor[0]][indexOf(columns, args[0])];
+            lastNull[0] = value == null;
+            return switch (method) {
+                case "getString" -> (String) value;
+                case "getInt" -> value != null ? (Integer) value : 0;
+                case "getBoolean" -> value != null && (Boolean) value;
+                case "getTimestamp" -> (Timestamp) value;
+                case "getObject" -> args.length > 1 && args[1] == LocalDateTime.class && value != null
+                        ? ((Timestamp) value).toLocalDateTime()
+                        : value;
+                case "getArray" -> value != null ? arrayOf((Object[]) value) : null;
+                default -> throw new UnsupportedOperationException(method);
+            };
+        });
+    }
+
+    // PostgreSQL text[] 값
+    private static Array arrayOf(Object[] values) {
+        return proxy(Array.class, (method, args) -> switch (method) {
+            case "getArray" -> values.clone();
+            case "free" -> null;
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private static int indexOf(Column[] columns, Object column) {
+        if (column instanceof Integer index) {
+            return index - 1;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].name().equalsIgnoreCase((String) column)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("unknown column: " + column);
+    }
+
+    // JDBC 인터페이스 구현 (null을 돌려준 기본형 메서드는 0/false)
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Object result = handler.invoke(method.getName(), args != null ? args : new Object[0]);
+            if (result == null && method.getReturnType() == boolean.class) {
+                return false;
+            }
+            if (result == null && method.getReturnType() == int.class) {
+                return 0;
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(String method, Object[] args) throws Exception;
+    }
+
+    private record Column(String name, int sqlType, Class<?> javaType) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.ai.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 응답 의미 기반 캐시 (pgvector)
+ * - 에이전트가 opt-in으로 advisor(...)를 ChatClient에 등록하면 사용
+ * - 비슷한 요청(임베딩 유사도 ≥ similarityThreshold)의 이전 응답을 모델 호출 없이 반환
+ * - 에이전트별 TTL, 적중/미스 통계 관리
+ */
+@Component
+@Slf4j
+public class SemanticCache {
+
+    @Getter
+    private final VectorStore vectorStore;
+
+    @Getter
+    private final boolean enabled;
+
+    @Getter
+    private final double similarityThreshold;
+
+    // 에이전트 이름 → [적중, 미스]
+    private final Map<String, AtomicLong[]> stats = new ConcurrentHashMap<>();
+
+    public SemanticCache(
+            VectorStore vectorStore,
+            @Value("${ai.semantic-cache.enabled:true}") boolean enabled,
+            @Value("${ai.semantic-cache.similarity-threshold:0.97}") double similarityThreshold) {
+        this.vectorStore = vectorStore;
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    /**
+     * 에이전트용 캐시 advisor 생성 (ChatClient.Builder.defaultAdvisors에 등록)
+     *
+     * @param agentName 에이전트 이름 (캐시 구분 + 통계 키)
+     * @param ttl       캐시 유효 기간
+     */
+    public SemanticCacheAdvisor advisor(String agentName, Duration ttl) {
+        return advisor(agentName, ttl, similarityThreshold);
+    }
+
+    /**
+     * 에이전트용 캐시 advisor 생성 (유사도 기준 지정)
+     *
+     * @param similarityThreshold 짧은 캐시 키(이름 등)처럼 조금만 달라도 다른 요청이면 더 높게
+     */
+    public SemanticCacheAdvisor advisor(String agentName, Duration ttl, double similarityThreshold) {
+        return new SemanticCacheAdvisor(this, agentName, ttl, similarityThreshold);
+    }
+
+    void recordHit(String agentName) {
+        AtomicLong[] counter = counter(agentName);
+        long hits = counter[0].incrementAndGet();
+        log.info("의미 캐시 적중 - agent: {}, 적중률: {}/{}", agentName, hits, hits + counter[1].get());
+    }
+
+    void recordMiss(String agentName) {
+        counter(agentName)[1].incrementAndGet();
+    }
+
+    /**
+     * 에이전트별 적중/미스 통계
+     *
+     * @return 에이전트 이름 → {hits, misses}
+     */
+    public Map<String, Map<String, Long>> getStats() {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        stats.forEach((agent, counter) -> result.put(agent, Map.of(
+                "hits", counter[0].get(),
+                "misses", counter[1].get())));
+        return result;
+    }
+
+    // 만료된 캐시 정리 (1시간마다)
+    @Scheduled(fixedDelayString = "${ai.semantic-cache.cleanup-interval-ms:3600000}")
+    void evictExpired() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            FilterExpressionBuilder b = new FilterExpressionBuilder();
+            vectorStore.delete(b.lt("expiresAt", System.currentTimeMillis()).build());
+            log.debug("의미 캐시 만료 항목 정리 완료 - 통계: {}", getStats());
+        } catch (Exception e) {
+            log.warn("의미 캐시 만료 항목 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private AtomicLong[] counter(String agentName) {
+        return stats.computeIfAbsent(agentName, key -> new AtomicLong[] { new AtomicLong(), new AtomicLong() });
+    }
+}
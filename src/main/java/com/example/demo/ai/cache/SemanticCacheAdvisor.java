@@ -0,0 +1,177 @@
+package com.example.demo.ai.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 의미 캐시 advisor (에이전트별 인스턴스, SemanticCache.advisor로 생성)
+ * - 임베딩 대상: 정규화한 사용자 메시지 (공백 정리 + 소문자)
+ *   → 에이전트가 CACHE_KEY 파라미터를 주면 그 값만 임베딩 (사용자 메시지의 고정 문구 때문에 서로 다른 요청이 비슷해지지 않도록)
+ * - 시스템 프롬프트는 임베딩하지 않고 해시로 정확히 일치하는 것만 조회
+ *   → 긴 공통 시스템 프롬프트 때문에 서로 다른 요청이 비슷하다고 판단되지 않도록
+ * - 사용자 메시지 안의 숫자(공부 시간, 경력 연차 등)도 정확히 일치해야 적중
+ * - 캐시 조회/저장 실패는 무시하고 모델 호출로 진행
+ */
+@Slf4j
+public class SemanticCacheAdvisor implements CallAdvisor {
+
+    /**
+     * 임베딩할 캐시 키 (요청 advisor 파라미터, 사용자 메시지에서 바뀌는 부분만)
+     * 예: chatClient.prompt().advisors(a -> a.param(SemanticCacheAdvisor.CACHE_KEY, skills))
+     */
+    public static final String CACHE_KEY = "semanticCacheKey";
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+(\\.\\d+)?");
+
+    private final SemanticCache cache;
+    private final String agentName;
+    private final Duration ttl;
+    private final double similarityThreshold;
+
+    SemanticCacheAdvisor(SemanticCache cache, String agentName, Duration ttl, double similarityThreshold) {
+        this.cache = cache;
+        this.agentName = agentName;
+        this.ttl = ttl;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        if (!cache.isEnabled()) {
+            return chain.nextCall(request);
+        }
+
+        Prompt prompt = request.prompt();
+        Object cacheKey = request.context().get(CACHE_KEY);
+        String userText = normalize(cacheKey != null ? cacheKey.toString() : prompt.getUserMessage().getText());
+        String systemHash = sha256(prompt.getSystemMessage().getText() + "|" + numbers(userText));
+
+        if (userText.isEmpty()) {
+            return chain.nextCall(request);
+        }
+
+        // 1. 비슷한 이전 요청 조회
+        String cached = lookup(userText, systemHash);
+        if (cached != null) {
+            cache.recordHit(agentName);
+            ChatResponse chatResponse = new ChatResponse(List.of(new Generation(new AssistantMessage(cached))));
+            return ChatClientResponse.builder()
+                    .chatResponse(chatResponse)
+                    .context(request.context())
+                    .build();
+        }
+        cache.recordMiss(agentName);
+
+        // 2. 모델 호출 후 응답 저장 (저장은 응답 지연에 영향 없도록 별도 스레드)
+        ChatClientResponse response = chain.nextCall(request);
+        String text = responseText(response);
+        if (text != null && !text.isBlank()) {
+            Thread.startVirtualThread(() -> store(userText, systemHash, text));
+        }
+        return response;
+    }
+
+    private String lookup(String userText, String systemHash) {
+        try {
+            FilterExpressionBuilder b = new FilterExpressionBuilder();
+            List<Document> documents = cache.getVectorStore().similaritySearch(SearchRequest.builder()
+                    .query(userText)
+                    .topK(1)
+                    .similarityThreshold(similarityThreshold)
+                    .filterExpression(b.and(
+                            b.and(b.eq("agent", agentName), b.eq("systemHash", systemHash)),
+                            b.gt("expiresAt", System.currentTimeMillis())).build())
+                    .build());
+
+            if (documents == null || documents.isEmpty()) {
+                return null;
+            }
+            Document hit = documents.get(0);
+            log.debug("의미 캐시 후보 - agent: {}, 유사도: {}", agentName, hit.getScore());
+            Object response = hit.getMetadata().get("response");
+            return response != null ? response.toString() : null;
+
+        } catch (Exception e) {
+            log.warn("의미 캐시 조회 실패 - agent: {}: {}", agentName, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String userText, String systemHash, String responseText) {
+        try {
+            long now = System.currentTimeMillis();
+            Document document = new Document(userText, Map.of(
+                    "agent", agentName,
+                    "systemHash", systemHash,
+                    "response", responseText,
+                    "createdAt", now,
+                    "expiresAt", now + ttl.toMillis()));
+            cache.getVectorStore().add(List.of(document));
+        } catch (Exception e) {
+            log.warn("의미 캐시 저장 실패 - agent: {}: {}", agentName, e.getMessage());
+        }
+    }
+
+    private static String responseText(ChatClientResponse response) {
+        if (response.chatResponse() == null || response.chatResponse().getResult() == null) {
+            return null;
+        }
+        return response.chatResponse().getResult().getOutput().getText();
+    }
+
+    // 임베딩 유사도로는 구분되지 않는 숫자 차이를 정확 일치 조건에 포함
+    private static String numbers(String text) {
+        StringBuilder numbers = new StringBuilder();
+        Matcher matcher = NUMBER.matcher(text);
+        while (matcher.find()) {
+            numbers.append(matcher.group()).append(',');
+        }
+        return numbers.toString();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.replaceAll("\\s+", " ").trim().toLowerCase();
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((text == null ? "" : text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "SemanticCacheAdvisor-" + agentName;
+    }
+
+    @Override
+    public int getOrder() {
+        // 다른 advisor보다 먼저 실행 (적중 시 뒤 단계 생략)
+        return 0;
+    }
+}
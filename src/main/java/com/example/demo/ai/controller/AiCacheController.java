@@ -0,0 +1,24 @@
+package com.example.demo.ai.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.ai.cache.SemanticCache;
+
+@RestController
+@RequestMapping("/ai/cache")
+public class AiCacheController {
+  @Autowired
+  private SemanticCache semanticCache;
+
+  // 에이전트별 의미 캐시 적중/미스 통계 (유사도 기준 조정용)
+  @GetMapping("/stats")
+  public ResponseEntity<Map<String, Map<String, Long>>> getSemanticCacheStats() {
+    return ResponseEntity.ok(semanticCache.getStats());
+  }
+}
@@ -1,5 +1,8 @@
 package com.example.demo.ai.coverletter;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +14,7 @@ import com.example.demo.member.dao.MemberDao;
 import com.example.demo.member.entity.Member;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 // 자소서 작성 시 실시간 코칭해주는 에이전트
 
@@ -30,18 +34,141 @@ public class RealtimeCoachingAgent {
         this.chatClient = chatClientBuilder.build();
     }
 
+    // 스트리밍 응답의 항목 제목 (CoverLetterCoachResponse 필드 순서)
+    private static final String SECTION_SUMMARY = "요약";
+    private static final String SECTION_STRENGTHS = "잘한 점";
+    private static final String SECTION_IMPROVEMENTS = "개선점";
+    private static final String SECTION_IMPROVED_TEXT = "수정본";
+    private static final Pattern SECTION_HEADER = Pattern.compile(
+        "^[ \\t]*\\[(" + SECTION_SUMMARY + "|" + SECTION_STRENGTHS + "|" + SECTION_IMPROVEMENTS + "|" + SECTION_IMPROVED_TEXT + ")\\][ \\t]*$",
+        Pattern.MULTILINE);
+
+    // 일반/스트리밍 공통 평가 규칙
+    private static final String COMMON_RULES = """
+        - 모든 문장은 공식 보고서 톤인 ‘~합니다’ 형태로 작성합니다.
+        - ‘~한다’ 형태의 평서형은 금지합니다.
+
+        부적절한 입력 처리 규칙:
+        만약 사용자 입력이 다음 중 하나라도 해당하면 “평가 불가”로 처리해야 합니다:
+        - 의미 없는 단어 나열 (예: asdf, ㄱㄱㄱ, random text 등)
+        - 문장 구조가 없는 단편적 단어
+        - 욕설, 비속어, 공격적 표현
+        - 자소서 항목으로 볼 수 없는 내용
+        - 항목 전체가 비어 있거나 공란인 경우""";
+
+    // 1. Bean 객체 -> JSON 출력 변환기 (스레드 안전, 재사용)
+    private final BeanOutputConverter<CoverLetterCoachResponse> converter = new BeanOutputConverter<>(CoverLetterCoachResponse.class);
+
     // 실시간 코칭
     public CoverLetterCoachResponse execute(CoverLetterCoachRequest request) {
 
-        // 사용자 ID 얻기
-        Member member = memberDao.findById(request.getMemberId());
+        // 4. LLM 호출
+        String json = chatClient.prompt()
+            .system(systemPrompt())
+            .user(userPrompt(request))
+            .call()
+            .content();
+
+        // 5. JSON -> DTO 변환
+        CoverLetterCoachResponse response = converter.convert(json);
+
+        return response;
+    }
+
+    // 실시간 코칭 (스트리밍) - 화면에 바로 보여줄 수 있는 평문 코칭을 토큰 조각 단위로 흘려보냄
+    // JSON으로 받으면 조각마다 JSON 파편이라 보여줄 수 없음 → 항목 제목으로 구분한 평문으로 받고, 다 받은 뒤 toResponse로 구조화
+    // 구독을 취소하면 진행 중인 모델 호출도 함께 취소됨
+    public Flux<String> stream(CoverLetterCoachRequest request) {
+        String systemPrompt = streamSystemPrompt();
+        String prompt = userPrompt(request);
+
+        return chatClient.prompt()
+            .system(systemPrompt)
+            .user(prompt)
+            .stream()
+            .content();
+    }
+
+    // 스트리밍으로 모은 평문 -> DTO 변환 (항목 제목 기준으로 나눔, 제목이 하나도 없으면 전체를 요약으로)
+    public CoverLetterCoachResponse toResponse(String text) {
+        CoverLetterCoachResponse response = new CoverLetterCoachResponse();
+
+        Matcher matcher = SECTION_HEADER.matcher(text);
+        String section = null;
+        int bodyStart = 0;
+        while (matcher.find()) {
+            setSection(response, section, text.substring(bodyStart, matcher.start()));
+            section = matcher.group(1);
+            bodyStart = matcher.end();
+        }
+
+        if (section == null) {
+            response.setSummary(text.trim());
+        } else {
+            setSection(response, section, text.substring(bodyStart));
+        }
+        return response;
+    }
 
-        // 1. Bean 객체 -> JSON 출력 변환기 생성
-        BeanOutputConverter<CoverLetterCoachResponse> converter = new BeanOutputConverter<>(CoverLetterCoachResponse.class);
+    private static void setSection(CoverLetterCoachResponse response, String section, String body) {
+        if (section == null) {
+            return;
+        }
+        String value = body.trim();
+        switch (section) {
+            case SECTION_SUMMARY -> response.setSummary(value);
+            case SECTION_STRENGTHS -> response.setStrengths(value);
+            case SECTION_IMPROVEMENTS -> response.setImprovements(value);
+            case SECTION_IMPROVED_TEXT -> response.setImprovedText(value);
+            default -> { }
+        }
+    }
 
+    // 시스템 프롬프트
+    private String systemPrompt() {
         // DTO 구조 제공 -> JSON 출력 포맷 지정
         String format = converter.getFormat();
 
+        return """
+            당신은 취업 준비생의 자기소개서를 첨삭해주는 전문 취업 컨설턴트입니다.
+
+            평가 규칙:
+            - JSON 형식 이외의 불필요한 문장을 절대 출력하지 않습니다.
+            %s
+
+            아래 JSON 스키마를 정확히 준수하여 답변해야 합니다:
+            %s
+        """.formatted(COMMON_RULES, format);
+    }
+
+    // 시스템 프롬프트 (스트리밍) - JSON 대신 항목 제목으로 구분한 평문
+    private String streamSystemPrompt() {
+        return """
+            당신은 취업 준비생의 자기소개서를 첨삭해주는 전문 취업 컨설턴트입니다.
+
+            평가 규칙:
+            - 아래 네 항목 이외의 불필요한 문장을 절대 출력하지 않습니다.
+            - JSON, 마크다운 기호를 사용하지 않습니다.
+            %s
+
+            아래 형식을 정확히 준수하여 답변해야 합니다 (항목 제목은 대괄호 포함 한 줄에 단독으로, 순서 유지):
+            [%s]
+            한 줄 요약 코멘트
+            [%s]
+            잘한 점 요약
+            [%s]
+            개선점 요약
+            [%s]
+            AI 수정본
+        """.formatted(COMMON_RULES, SECTION_SUMMARY, SECTION_STRENGTHS, SECTION_IMPROVEMENTS, SECTION_IMPROVED_TEXT);
+    }
+
+    // 사용자 프롬프트
+    private String userPrompt(CoverLetterCoachRequest request) {
+
+        // 사용자 ID 얻기
+        Member member = memberDao.findById(request.getMemberId());
+
         // 2. 요청된 section만 추출
         String section = null;
         // 선택된 section을 section에 대입
@@ -63,27 +190,6 @@ public class RealtimeCoachingAgent {
         }
 
         // 3. 프롬프트 구성
-        // 시스템
-        String systemPrompt = """
-            당신은 취업 준비생의 자기소개서를 첨삭해주는 전문 취업 컨설턴트입니다.
-
-            평가 규칙:
-            - JSON 형식 이외의 불필요한 문장을 절대 출력하지 않습니다.
-            - 모든 문장은 공식 보고서 톤인 ‘~합니다’ 형태로 작성합니다.
-            - ‘~한다’ 형태의 평서형은 금지합니다.
-
-            부적절한 입력 처리 규칙:
-            만약 사용자 입력이 다음 중 하나라도 해당하면 “평가 불가”로 처리해야 합니다:
-            - 의미 없는 단어 나열 (예: asdf, ㄱㄱㄱ, random text 등)
-            - 문장 구조가 없는 단편적 단어
-            - 욕설, 비속어, 공격적 표현
-            - 자소서 항목으로 볼 수 없는 내용
-            - 항목 전체가 비어 있거나 공란인 경우
-
-            아래 JSON 스키마를 정확히 준수하여 답변해야 합니다:
-            %s
-        """.formatted(format);
-
         // 사용자
         String prompt = """
             사용자가 방금 작성한 "%s" 항목을 분석하고 피드백을 제공하세요.
@@ -108,16 +214,6 @@ public class RealtimeCoachingAgent {
 
         log.info("받은 키워드: {}", request.getKeywords());
 
-        // 4. LLM 호출
-        String json = chatClient.prompt()
-            .system(systemPrompt)
-            .user(prompt)
-            .call()
-            .content();
-
-        // 5. JSON -> DTO 변환
-        CoverLetterCoachResponse response = converter.convert(json);
-
-        return response;
+        return prompt;
     }
 }
@@ -1,7 +1,5 @@
 package com.example.demo.ai.interview;
 
-import java.util.List;
-
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.interview.dao.InterviewAnswerDao;
 import com.example.demo.interview.dto.response.AnswerFeedbackResponse;
+import com.example.demo.interview.dto.response.VisualFeedbackResponse;
 import com.example.demo.interview.entity.InterviewAnswer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -46,42 +45,50 @@ public class AnswerFeedbackAgent {
       메소드
     =============== */
 
-    // 답변별 피드백 생성
+    // 답변별 피드백 생성 (종합 영상 분석 결과)
     @Transactional
-    public AnswerFeedbackResponse execute(int answerId, String answerText, List<String> visualFeedbackList) throws Exception {
-        
-        // 1. DB에서 답변 불러오기
-        InterviewAnswer answer = interviewAnswerDao.selectOneAnswer(answerId);
-
-        if (answer == null) {
-            throw new RuntimeException("Answer not found");
-        }
+    public AnswerFeedbackResponse execute(int answerId, String answerText, VisualFeedbackResponse visualFeedback) throws Exception {
 
-        
-        // 2. 이미지 분석 리스트 -> 하나의 문자열로 변환
+        // 종합 분석 결과 -> 하나의 문자열로 변환
         String visualFeedbackText;
-        if (visualFeedbackList == null || visualFeedbackList.isEmpty()) {
+        if (visualFeedback == null || visualFeedback.getFrameCount() == 0) {
             visualFeedbackText = "영상 분석 없음";
         } else {
-            // 프레임 별로 나온 피드백을 하나의 문자열로 합치기
-            StringBuilder sb = new StringBuilder(); 
-            for (int i = 0; i < visualFeedbackList.size(); i++) {
-                sb.append("프레임 ").append(i + 1).append(" 분석: ");
-                sb.append(visualFeedbackList.get(i));
-                sb.append("\n");
+            StringBuilder sb = new StringBuilder();
+            sb.append("분석한 프레임 수: ").append(visualFeedback.getFrameCount()).append("\n");
+            sb.append("표정: ").append(visualFeedback.getFacialExpression()).append("\n");
+            sb.append("자세: ").append(visualFeedback.getPosture()).append("\n");
+            sb.append("시선: ").append(visualFeedback.getEyeContact()).append("\n");
+            sb.append("종합: ").append(visualFeedback.getOverallFeedback()).append("\n");
+            if (visualFeedback.getImprovementPoints() != null) {
+                for (String point : visualFeedback.getImprovementPoints()) {
+                    sb.append("개선 포인트: ").append(point).append("\n");
+                }
             }
 
             visualFeedbackText = sb.toString();
         }
 
+        return generate(answerId, answerText, visualFeedbackText);
+    }
+
+    private AnswerFeedbackResponse generate(int answerId, String answerText, String visualFeedbackText) throws Exception {
+
+        // 1. DB에서 답변 불러오기
+        InterviewAnswer answer = interviewAnswerDao.selectOneAnswer(answerId);
+
+        if (answer == null) {
+            throw new RuntimeException("Answer not found");
+        }
+
 
-        // 3. Bean 객체 -> JSON 출력 변환기 생성
+        // 2. Bean 객체 -> JSON 출력 변환기 생성
         BeanOutputConverter<AnswerFeedbackResponse> converter = new BeanOutputConverter<>(AnswerFeedbackResponse.class);
 
         // DTO 구조 제공 -> JSON 출력 포맷 지정
         String format = converter.getFormat();
 
-        // 4. 프롬프트 구성
+        // 3. 프롬프트 구성
         // 시스템
         String systemPrompt = """
             당신은 전문 면접관입니다.
@@ -190,17 +197,17 @@ public class AnswerFeedbackAgent {
             %s
         """.formatted(answerText, visualFeedbackText);
 
-        // 5. LLM 호출
+        // 4. LLM 호출
         String json = chatClient.prompt()
             .system(systemPrompt)
             .user(prompt)
             .call()
             .content();
 
-        // 6. JSON -> DTO 변환
+        // 5. JSON -> DTO 변환
         AnswerFeedbackResponse response = converter.convert(json);
 
-        // 7. DTO -> JSON으로 다시 직렬화해서 DB 업데이트
+        // 6. DTO -> JSON으로 다시 직렬화해서 DB 업데이트
         String jsonString = objectMapper.writeValueAsString(response);
         interviewAnswerDao.updateAnswerFeedback(answerId, jsonString);
 
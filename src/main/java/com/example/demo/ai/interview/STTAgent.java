@@ -5,13 +5,10 @@ import org.springframework.ai.audio.transcription.AudioTranscriptionPrompt;
 import org.springframework.ai.audio.transcription.AudioTranscriptionResponse;
 import org.springframework.ai.openai.OpenAiAudioTranscriptionModel;
 import org.springframework.ai.openai.OpenAiAudioTranscriptionOptions;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
-import com.example.demo.interview.dao.InterviewAnswerDao;
-
 import lombok.extern.slf4j.Slf4j;
 
 // 음성 분석 에이전트
@@ -27,10 +24,6 @@ public class STTAgent {
     // STT
     private OpenAiAudioTranscriptionModel openaiAudioTranscriptionModel;
     
-    // DAO
-    @Autowired
-    private InterviewAnswerDao interviewAnswerDao;
-    
     
     /*==============
       생성자
@@ -77,8 +70,8 @@ public class STTAgent {
         return text;
     }
     
-    // 2) 변환된 텍스트를 DB에 저장====================================================================
-    public String sttSave(int answerId, String fileName, byte[] bytes) {
+    // 2) 음성 파일을 텍스트로 변환 (DB 저장은 호출한 쪽에서 → 마감 시간이 지나 버려진 변환 결과가 저장되지 않도록)=====
+    public String transcribe(String fileName, byte[] bytes) {
 
         if (bytes == null || bytes.length == 0) {
             log.warn("[STT] empty bytes, skip STT");
@@ -86,11 +79,6 @@ public class STTAgent {
         }
 
         // STT 변환 호출
-        String text = stt(fileName, bytes);
-
-        // 변환된 텍스트 저장
-        interviewAnswerDao.updateAnswerText(answerId, text);
-
-        return text;
+        return stt(fileName, bytes);
     }
 }
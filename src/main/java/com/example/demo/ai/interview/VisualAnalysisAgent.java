@@ -1,21 +1,38 @@
 package com.example.demo.ai.interview;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.content.Media;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.demo.interview.dto.response.VisualFeedbackResponse;
+
 import lombok.extern.slf4j.Slf4j;
 
 // 영상(이미지 프레임) 분석 에이전트
+// - analyzeFramesBatch: 거의 같은 프레임 제거(지각 해시) → 축소/JPEG 재인코딩 → 한 번의 요청으로 종합 분석
 
 @Component
 @Slf4j
@@ -27,6 +44,26 @@ public class VisualAnalysisAgent {
 
     // ChatClient
     private ChatClient chatClient;
+
+    // 배치 분석: 한 요청에 보낼 최대 프레임 수
+    @Value("${interview.visual.max-frames:6}")
+    private int maxFrames;
+
+    // 배치 분석: 긴 변 최대 픽셀 (이보다 크면 축소)
+    @Value("${interview.visual.max-dimension:512}")
+    private int maxDimension;
+
+    // 배치 분석: JPEG 재인코딩 품질 (0~1)
+    @Value("${interview.visual.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    // 배치 분석: 지각 해시 해밍 거리가 이 값 이하면 같은 장면으로 보고 제외 (64비트 중)
+    @Value("${interview.visual.dedup-distance:6}")
+    private int dedupDistance;
+
+    // 지각 해시(dHash) 격자: 가로 9칸 × 세로 8칸 → 이웃 칸 밝기 비교 64비트
+    private static final int HASH_COLS = 9;
+    private static final int HASH_ROWS = 8;
     
     
     /*==============
@@ -41,76 +78,186 @@ public class VisualAnalysisAgent {
       메소드
     =============== */
 
-    // 1) 이미지 한 장 분석=================================================================================
-    private String analyzeOneFrame(String contentType, byte[] bytes) {
+    // 1) 여러 프레임을 한 번의 요청으로 종합 분석 (배치 모드)=================================================================
+    public VisualFeedbackResponse analyzeFramesBatch(List<MultipartFile> frames) throws Exception {
+        if (frames == null || frames.isEmpty()) {
+            return new VisualFeedbackResponse(); // frameCount = 0 → 영상 분석 없음
+        }
+
+        // 1. 디코딩 + 축소 + 거의 같은 프레임 제거 (프레임 순서 유지)
+        List<byte[]> prepared = new ArrayList<>();
+        List<Long> hashes = new ArrayList<>();
+        for (MultipartFile frame : frames) {
+            BufferedImage image;
+            try (InputStream in = frame.getInputStream()) {
+                image = ImageIO.read(in);
+            }
 
-        // 1. 이미지 데이터를 ByteArrayResource로 변환
-        Resource imageResource = new ByteArrayResource(bytes);
+            if (image == null) {
+                // ImageIO가 읽지 못하는 형식 → 크기를 줄일 수 없으므로 전송하지 않음
+                log.warn("[영상 분석] 디코딩할 수 없는 프레임 제외: name={}, contentType={}, size={}",
+                    frame.getOriginalFilename(), frame.getContentType(), frame.getSize());
+                continue;
+            }
 
-        // 2. 미디어 객체 생성
-        MimeType mimeType = (contentType != null) 
-            ? MimeType.valueOf(contentType)
-            : MimeType.valueOf("image/png");
+            BufferedImage scaled = downscale(image);
+            long hash = differenceHash(scaled);
+            boolean duplicate = hashes.stream().anyMatch(other -> Long.bitCount(other ^ hash) <= dedupDistance);
+            if (duplicate) {
+                continue;
+            }
+            hashes.add(hash);
+            prepared.add(toJpeg(scaled));
+        }
 
-        Media media = Media.builder()
-            .mimeType(mimeType)
-            .data(imageResource)
-            .build();
+        if (prepared.isEmpty()) {
+            return new VisualFeedbackResponse(); // 보낼 수 있는 프레임 없음 → 영상 분석 없음
+        }
+
+        // 2. 최대 프레임 수를 넘으면 전체 구간에서 고르게 추림
+        List<byte[]> selected = sample(prepared, Math.max(1, maxFrames));
+
+        List<Media> mediaList = new ArrayList<>();
+        for (byte[] jpeg : selected) {
+            mediaList.add(Media.builder()
+                .mimeType(MimeTypeUtils.IMAGE_JPEG)
+                .data(new ByteArrayResource(jpeg))
+                .build());
+        }
+
+        // 3. 구조화 출력 형식
+        BeanOutputConverter<VisualFeedbackResponse> converter = new BeanOutputConverter<>(VisualFeedbackResponse.class);
 
-        // 3. 시스템 메시지
+        // 4. 시스템 메시지 (한 번만 전송)
         SystemMessage systemMessage = SystemMessage.builder()
             .text("""
                당신은 면접 영상 분석 전문가입니다.
-               제공되는 이미지(면접 프레임)를 분석하여
-               - 표정
-               - 자세
-               등의 비언어적 요소에 대해 피드백을 작성하세요.
-            """)
+               제공되는 이미지들은 한 답변 동안 시간 순서대로 추출한 면접 프레임입니다.
+               모든 프레임을 종합하여 표정, 자세, 시선 등 비언어적 요소에 대한 피드백을 작성하세요.
+               특정 프레임에서만 보이는 변화(자세 흐트러짐, 시선 이탈 등)가 있으면 함께 언급하세요.
+
+               - frameCount: 항상 0으로 출력
+               - facialExpression: 표정 분석
+               - posture: 자세 분석
+               - eyeContact: 시선 분석
+               - overallFeedback: 비언어적 요소 종합 피드백
+               - improvementPoints: 개선 포인트 목록
+
+               모든 문장은 ‘~합니다’로 끝나는 공식 보고서 톤으로 작성합니다.
+               아래 JSON 형식을 정확히 준수하여 출력하십시오 (JSON 외의 문장 출력 금지):
+               %s
+            """.formatted(converter.getFormat()))
             .build();
 
-        // 4. 사용자 메시지
+        // 5. 사용자 메시지 (프레임 여러 장을 하나의 메시지로)
         UserMessage userMessage = UserMessage.builder()
-            .text("아래 이미지를 분석해주세요")
-            .media(media)
+            .text("아래 %d장의 면접 프레임을 종합 분석해주세요".formatted(mediaList.size()))
+            .media(mediaList)
             .build();
 
-        // 5. LLM에 메시지 전달 + 응답 스트림 반환
-        String response = chatClient.prompt()
+        // 6. LLM 호출 1회
+        String json = chatClient.prompt()
             .messages(systemMessage, userMessage)
             .call()
             .content();
 
+        VisualFeedbackResponse response = converter.convert(json);
+        response.setFrameCount(mediaList.size());
+
+        log.info("=== Visual batch analysis: received {}, after dedup {}, sent {} ===",
+            frames.size(), prepared.size(), mediaList.size());
+
         return response;
     }
-    
 
-    // 2) MultipartFile 리스트 → 분석 결과 리스트===================================================================================
-    public List<String> analyzeFrames(List<MultipartFile> frames) throws Exception {
-        if (frames == null || frames.isEmpty()) {
-            return List.of();
-        }
+    // 긴 변이 maxDimension 이하가 되도록 축소 (알파 채널은 흰 배경으로 합성, 크기가 작으면 그대로)
+    private BufferedImage downscale(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
 
-        List<String> results = new ArrayList<>();
+        // 한 번에 많이 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소 (축소가 필요 없어도 RGB로 한 번 다시 그림)
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
 
-        for (MultipartFile frame : frames) {
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width > targetWidth || height > targetHeight);
+
+        return current;
+    }
 
-            // 이미지의 바이트 배열 얻기
-            byte[] bytes = frame.getBytes();
-            
-            // 이미지의 MIME 타입 얻기
-            String contentType = frame.getContentType();
+    // 지각 해시(dHash): 9×8 격자 평균 밝기에서 가로로 이웃한 칸끼리 비교 → 조명/압축 차이에는 둔감, 장면 변화에는 민감
+    private static long differenceHash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
 
-            // 이미지 한 장 분석기에 바이트 배열 + MIME 타입 넘기기
-            String analysis = analyzeOneFrame(contentType, bytes);
+        double[] sums = new double[HASH_COLS * HASH_ROWS];
+        int[] counts = new int[HASH_COLS * HASH_ROWS];
+        for (int y = 0; y < height; y++) {
+            int row = y * HASH_ROWS / height;
+            for (int x = 0; x < width; x++) {
+                int col = x * HASH_COLS / width;
+                int rgb = pixels[y * width + x];
+                double luminance = 0.299 * ((rgb >> 16) & 0xff) + 0.587 * ((rgb >> 8) & 0xff) + 0.114 * (rgb & 0xff);
+                sums[row * HASH_COLS + col] += luminance;
+                counts[row * HASH_COLS + col]++;
+            }
+        }
 
-            // 분석 결과 리스트에 저장
-            results.add(analysis);
+        long hash = 0;
+        for (int row = 0; row < HASH_ROWS; row++) {
+            for (int col = 0; col < HASH_COLS - 1; col++) {
+                int left = row * HASH_COLS + col;
+                double leftAverage = counts[left] > 0 ? sums[left] / counts[left] : 0;
+                double rightAverage = counts[left + 1] > 0 ? sums[left + 1] / counts[left + 1] : 0;
+                hash = (hash << 1) | (leftAverage < rightAverage ? 1 : 0);
+            }
         }
+        return hash;
+    }
 
-        log.info("=== Visual feedback result count: {} ===", results.size());
+    // JPEG 재인코딩 (품질 지정)
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(Math.max(0.1f, Math.min(1.0f, jpegQuality)));
 
-        return results;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
     }
 
-
+    // 전체 구간에서 limit개를 고른 간격으로 선택 (첫 프레임과 마지막 프레임 포함)
+    private static <T> List<T> sample(List<T> items, int limit) {
+        if (items.size() <= limit) {
+            return items;
+        }
+        if (limit == 1) {
+            return List.of(items.get(0));
+        }
+        List<T> sampled = new ArrayList<>();
+        for (int i = 0; i < limit; i++) {
+            sampled.add(items.get((int) Math.round((double) i * (items.size() - 1) / (limit - 1))));
+        }
+        return sampled;
+    }
 }
@@ -1,9 +1,13 @@
 package com.example.demo.ai.learning;
 
+import java.time.Duration;
+
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.stereotype.Component;
 
+import com.example.demo.ai.cache.SemanticCache;
+import com.example.demo.ai.cache.SemanticCacheAdvisor;
 import com.example.demo.learning.dto.request.RoadmapRequest;
 import com.example.demo.learning.dto.response.AiCreateRoadmapResponse;
 
@@ -12,8 +16,11 @@ public class CreateRoadmapAgent {
 
   private ChatClient chatClient;
 
-  public CreateRoadmapAgent(ChatClient.Builder chatClientBuilder) {
-    this.chatClient = chatClientBuilder.build();
+  // 같은 직무/기술/목적의 로드맵 요청은 의미 캐시로 재사용 (1일)
+  public CreateRoadmapAgent(ChatClient.Builder chatClientBuilder, SemanticCache semanticCache) {
+    this.chatClient = chatClientBuilder
+        .defaultAdvisors(semanticCache.advisor("create-roadmap", Duration.ofDays(1)))
+        .build();
   }
 
   public AiCreateRoadmapResponse generateRoadmap(RoadmapRequest request) {
@@ -80,7 +87,11 @@ public class CreateRoadmapAgent {
         """.formatted(request.getStudyHours(), request.getPurposes(), request.getSkills());
 
     // LLM 호출
+    // 고정 문구를 빼고 바뀌는 값만 캐시 키로 (공부 시간은 숫자라 정확히 일치해야 적중)
+    String cacheKey = "%d시간 | %s | %s".formatted(request.getStudyHours(), request.getPurposes(), request.getSkills());
+
     String responseJson = chatClient.prompt()
+        .advisors(a -> a.param(SemanticCacheAdvisor.CACHE_KEY, cacheKey))
         .system(system)
         .user(prompt)
         .call()
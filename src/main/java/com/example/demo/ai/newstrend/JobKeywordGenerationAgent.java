@@ -75,7 +75,8 @@ public class JobKeywordGenerationAgent {
 
     /**
      * 직군과 직무에 맞는 뉴스 검색 키워드 생성
-    
+     *
+     * @throws RuntimeException AI 호출/응답 파싱 실패 (fallback 키워드를 대신 반환하지 않음)
      */
     public List<String> generateJobKeywords(String jobGroup, String jobRole) {
         
@@ -140,48 +141,47 @@ public class JobKeywordGenerationAgent {
             );  // 세 번째 %s
                  
 
-        try {
-            // Spring AI ChatClient를 사용한 AI 호출
-            String aiResult = chatClient.prompt()  // 프롬프트 시작
-                .system(system)                     // 시스템 메시지 설정 (AI 역할 정의)
-                .user(prompt)                       // 사용자 메시지 설정 (실제 요청)
-                .call()                             // AI 모델 호출
-                .content();                         // 응답 내용 추출 (String 타입)
-
-            // JSON 배열 문자열을 Java List로 변환
-            List<String> keywords = new ArrayList<>();  // 가변(mutable) 리스트 생성
-            JSONArray arr = new JSONArray(aiResult);    // org.json 라이브러리로 JSON 파싱
-            
-            // for 루프로 JSON 배열의 각 요소를 리스트에 추가
-            for (int i = 0; i < arr.length(); i++) {
-                keywords.add(arr.getString(i));  // i번째 요소를 String으로 추출하여 추가
-            }
-
-            // 성공 로그 출력 (생성된 키워드 개수와 참고 키워드 개수 표시)
-            log.info("직군 '{}', 직무 '{}' - AI 생성 키워드 {}개 (참고 키워드: {}개)", 
-                    jobGroup, jobRole, keywords.size(), referenceKeywords.size());
-            
-            return keywords;  // 생성된 키워드 리스트 반환
+        // Spring AI ChatClient를 사용한 AI 호출 (실패하면 예외 → 호출한 쪽에서 fallbackKeywords 사용 여부 결정)
+        String aiResult = chatClient.prompt()  // 프롬프트 시작
+            .system(system)                     // 시스템 메시지 설정 (AI 역할 정의)
+            .user(prompt)                       // 사용자 메시지 설정 (실제 요청)
+            .call()                             // AI 모델 호출
+            .content();                         // 응답 내용 추출 (String 타입)
 
-        } catch (Exception e) {  // AI 호출 실패, JSON 파싱 오류 등 모든 예외 처리
-            // 에러 로그 출력 (예외 정보 포함)
-            log.error("AI 키워드 생성 실패 - 기존 검증된 키워드 사용. 직군: {}, 직무: {}", 
-                     jobGroup, jobRole, e);
-            
-            // ✅ AI 실패 시 기존 검증된 키워드 사용 (1차 fallback)
-            if (!referenceKeywords.isEmpty()) {  // 참고 키워드가 존재하면
-                return new ArrayList<>(referenceKeywords);  // 새 리스트로 복사하여 반환 (원본 보호)
-            }
-            
-            // ✅ 참고 키워드도 없으면 기본 키워드 반환 (2차 fallback)
-            // List.of()로 즉석에서 불변 리스트 생성
-            return List.of(
-                jobGroup + "",   // 문자열 연결 연산자로 동적 키워드 생성
-                jobGroup + "",
-                jobGroup + " 업계",
-                "기업 전략",          // 모든 직군에 공통으로 유용한 키워드
-                "조직개편"
-            );
+        // JSON 배열 문자열을 Java List로 변환
+        List<String> keywords = new ArrayList<>();  // 가변(mutable) 리스트 생성
+        JSONArray arr = new JSONArray(aiResult);    // org.json 라이브러리로 JSON 파싱
+
+        // for 루프로 JSON 배열의 각 요소를 리스트에 추가
+        for (int i = 0; i < arr.length(); i++) {
+            keywords.add(arr.getString(i));  // i번째 요소를 String으로 추출하여 추가
+        }
+
+        // 성공 로그 출력 (생성된 키워드 개수와 참고 키워드 개수 표시)
+        log.info("직군 '{}', 직무 '{}' - AI 생성 키워드 {}개 (참고 키워드: {}개)", 
+                jobGroup, jobRole, keywords.size(), referenceKeywords.size());
+
+        return keywords;  // 생성된 키워드 리스트 반환
+    }
+
+    /**
+     * AI 키워드 생성 실패 시 사용할 키워드 (캐시에 오래 두지 않도록 generateJobKeywords와 분리)
+     */
+    public List<String> fallbackKeywords(String jobGroup) {
+        // ✅ 기존 검증된 키워드 사용 (1차 fallback)
+        List<String> referenceKeywords = REFERENCE_JOB_KEYWORDS.getOrDefault(jobGroup, List.of());
+        if (!referenceKeywords.isEmpty()) {  // 참고 키워드가 존재하면
+            return new ArrayList<>(referenceKeywords);  // 새 리스트로 복사하여 반환 (원본 보호)
         }
+
+        // ✅ 참고 키워드도 없으면 기본 키워드 반환 (2차 fallback)
+        // List.of()로 즉석에서 불변 리스트 생성
+        return List.of(
+            jobGroup + "",   // 문자열 연결 연산자로 동적 키워드 생성
+            jobGroup + "",
+            jobGroup + " 업계",
+            "기업 전략",          // 모든 직군에 공통으로 유용한 키워드
+            "조직개편"
+        );
     }
 }
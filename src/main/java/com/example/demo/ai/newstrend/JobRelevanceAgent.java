@@ -1,7 +1,13 @@
 package com.example.demo.ai.newstrend;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.demo.newstrend.dto.request.NewsAnalysisRequest;
@@ -19,9 +25,14 @@ public class JobRelevanceAgent {
 
     private final ChatClient chatClient;  // Spring AI ChatClient (불변 필드, 생성자 주입)
 
+    private final int batchSize;  // 한 프롬프트에서 평가할 기사 수
+
     // 생성자: ChatClient.Builder를 주입받아 ChatClient 인스턴스 생성
-    public JobRelevanceAgent(ChatClient.Builder chatClientBuilder) {
+    public JobRelevanceAgent(
+            ChatClient.Builder chatClientBuilder,
+            @Value("${news.relevance.batch-size:10}") int batchSize) {
         this.chatClient = chatClientBuilder.build();  // 빌더 패턴으로 ChatClient 생성
+        this.batchSize = Math.max(1, batchSize);
     }
 
     /**
@@ -98,4 +109,118 @@ public class JobRelevanceAgent {
             return 0;  // 파싱 실패 시 안전한 기본값(0) 반환
         }
     }
+
+    /**
+     * 여러 뉴스의 관련성을 한 번의 AI 호출로 평가 (배치)
+     * - batchSize개씩 묶어서 하나의 프롬프트로 평가 → LLM 호출 수를 1/batchSize로 감소
+     * - 응답은 [{"id": 번호, "score": 점수}] 형식의 JSON 배열
+     * - 응답에서 빠졌거나 파싱에 실패한 기사만 calculateRelevanceScore로 개별 재평가
+     *
+     * @param newsList 수집된 뉴스 목록
+     * @param jobCategory 평가할 직군
+     * @return 입력 순서와 같은 순서의 관련성 점수 목록 (0~100)
+     */
+    public List<Integer> scoreBatch(List<NewsAnalysisRequest> newsList, String jobCategory) {
+        log.info("수집된 뉴스 관련도 배치 평가 - jobCategory: {}, 기사 수: {}, 배치 크기: {}",
+                jobCategory, newsList.size(), batchSize);
+
+        List<Integer> scores = new ArrayList<>(newsList.size());
+
+        for (int from = 0; from < newsList.size(); from += batchSize) {
+            List<NewsAnalysisRequest> chunk = newsList.subList(from, Math.min(from + batchSize, newsList.size()));
+            Integer[] chunkScores = scoreChunk(chunk, jobCategory);
+
+            // 배치 응답에서 점수를 얻지 못한 기사만 개별 평가로 fallback
+            for (int i = 0; i < chunk.size(); i++) {
+                if (chunkScores[i] == null) {
+                    log.warn("배치 점수 누락 - 개별 평가로 재시도: {}", chunk.get(i).getTitle());
+                    chunkScores[i] = calculateRelevanceScore(chunk.get(i), jobCategory);
+                }
+                scores.add(chunkScores[i]);
+            }
+        }
+
+        log.info("수집된 뉴스 관련도 배치 평가 완료 - {}건", scores.size());
+        return scores;
+    }
+
+    /**
+     * 기사 묶음 1개를 한 번의 AI 호출로 평가
+     * @return 기사별 점수 (파싱 실패 또는 누락된 항목은 null)
+     */
+    private Integer[] scoreChunk(List<NewsAnalysisRequest> chunk, String jobCategory) {
+        Integer[] scores = new Integer[chunk.size()];
+
+        String systemPrompt = """
+            당신은 뉴스 분석과 직무 적합성 평가를 전문적으로 수행하는 분석가입니다.
+            입력된 여러 뉴스가 각각 특정 직군과 얼마나 관련되는지 0~100점으로 평가합니다.
+
+            평가 기준:
+            - 직접적 관련성 (채용, 주요 업무 관련): 80-100점
+            - 간접적 관련성 (업계 동향, 전략/기술 흐름): 50-79점
+            - 일반적 관심사 (경제, IT 트렌드 등): 20-49점
+            - 관련성 낮음: 0-19점
+
+            출력 규칙:
+            - JSON 배열만 출력: [{"id": 0, "score": 75}, {"id": 1, "score": 10}]
+            - 입력된 모든 id에 대해 정확히 하나씩 출력
+            - score는 정수
+            - 다른 문장, 코드블록 포함 금지
+            """;
+
+        // 기사 목록을 id와 함께 나열
+        StringBuilder articles = new StringBuilder();
+        for (int i = 0; i < chunk.size(); i++) {
+            NewsAnalysisRequest news = chunk.get(i);
+            articles.append("""
+                [id: %d]
+                제목: %s
+                내용: %s
+                출처: %s
+
+                """.formatted(
+                    i,
+                    news.getTitle(),
+                    news.getContent() != null ? news.getContent().substring(0, Math.min(500, news.getContent().length())) : "내용 없음",
+                    news.getSourceName()));
+        }
+
+        String userPrompt = """
+            다음 뉴스 %d건이 각각 '%s' 직군과 얼마나 관련있는지 평가하세요.
+
+            %s
+            JSON 배열로만 출력하세요.
+            """.formatted(chunk.size(), jobCategory, articles);
+
+        String aiResult = null;
+        try {
+            aiResult = chatClient.prompt()
+                    .system(systemPrompt)
+                    .user(userPrompt)
+                    .call()
+                    .content();
+
+            // 코드블록(```json)으로 감싸서 오는 경우 대비해 배열 부분만 추출
+            String json = aiResult.substring(aiResult.indexOf('['), aiResult.lastIndexOf(']') + 1);
+            JSONArray arr = new JSONArray(json);
+
+            for (int i = 0; i < arr.length(); i++) {
+                JSONObject item = arr.optJSONObject(i);
+                if (item == null) {
+                    continue;
+                }
+                int id = item.optInt("id", -1);
+                int score = item.optInt("score", -1);
+                // 범위를 벗어난 id/score는 누락으로 처리 (개별 재평가 대상)
+                if (id >= 0 && id < scores.length && score >= 0 && score <= 100) {
+                    scores[id] = score;
+                }
+            }
+        } catch (Exception e) {
+            // 배치 전체 파싱 실패 → 모든 항목이 null로 남아 개별 평가로 fallback
+            log.warn("관련도 배치 점수 파싱 실패. 응답: {}", aiResult, e);
+        }
+
+        return scores;
+    }
 }
@@ -4,10 +4,8 @@ import java.util.List;
 
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.converter.BeanOutputConverter;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.example.demo.newstrend.dao.NewsSummaryDao;
 import com.example.demo.newstrend.dto.response.SentimentResponse;
 import com.example.demo.newstrend.entity.NewsSummary;
 
@@ -16,19 +14,14 @@ import com.example.demo.newstrend.entity.NewsSummary;
 @Component
 public class SentimetalAnalysisAgent {
 
-    @Autowired
-    private NewsSummaryDao newsSummaryDao;
-
     private ChatClient chatClient;
 
     public SentimetalAnalysisAgent(ChatClient.Builder chatClientBuilder) {
         this.chatClient = chatClientBuilder.build();
     }
 
-    public SentimentResponse excute(int memberId, int limit) {
-
-        // 1) DB에서 최신 뉴스 50개 조회
-        List<NewsSummary> newsList = newsSummaryDao.selectLatestNewsByMemberId(memberId, limit);
+    // 이미 조회한 뉴스로 분석 (TrendDataAgent에서 키워드 추출과 같은 뉴스 목록 공유)
+    public SentimentResponse excute(List<NewsSummary> newsList) {
 
         StringBuilder sb = new StringBuilder();
 
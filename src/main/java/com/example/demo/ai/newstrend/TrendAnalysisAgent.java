@@ -350,8 +350,9 @@ public class TrendAnalysisAgent {
     // 초반 3일 평균 관심도 계산
     double x = (ratios.get(0) + ratios.get(1) + ratios.get(2)) / 3.0;
 
-    // 후반 3일 평균 관심도 계산
-    double y = (ratios.get(4) + ratios.get(5) + ratios.get(6)) / 3.0;
+    // 후반 3일 평균 관심도 계산 (분석 기간이 7일보다 길어도 마지막 3일 기준)
+    int last = ratios.size() - 1;
+    double y = (ratios.get(last - 2) + ratios.get(last - 1) + ratios.get(last)) / 3.0;
 
     // 분자가 0을 방지하기 위해 +1
     return y / (x + 1);
@@ -10,9 +10,7 @@ import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.example.demo.member.dao.MemberDao;
 import com.example.demo.member.entity.Member;
-import com.example.demo.newstrend.dao.NewsSummaryDao;
 import com.example.demo.newstrend.dto.response.TrendKeywordResponse;
 import com.example.demo.newstrend.entity.NewsSummary;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -23,11 +21,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @Component
 public class TrendKeywordExtractionAgent {
 
-    @Autowired
-    private NewsSummaryDao newsSummaryDao;
-    @Autowired
-    private MemberDao memberDao;
-
     @Autowired
     private ObjectMapper mapper;
 
@@ -37,12 +30,8 @@ public class TrendKeywordExtractionAgent {
         this.chatClient = chatClientBuilder.build();
     }
 
-    public TrendKeywordResponse execute(int memberId) throws Exception {
-
-        Member member = memberDao.findById(memberId);
-
-        // 1) 뉴스 50개 조회
-        List<NewsSummary> newsList = newsSummaryDao.selectLatestNewsByMemberId(memberId, 50);
+    // 이미 조회한 회원/뉴스로 키워드 선정 (TrendDataAgent에서 감정 분석과 같은 뉴스 목록 공유)
+    public TrendKeywordResponse execute(Member member, List<NewsSummary> newsList) throws Exception {
 
         // 2) 키워드 후보 풀 생성
         List<String> keywordPool = new ArrayList<>();
@@ -0,0 +1,66 @@
+package com.example.demo.config;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 호출 동시성/속도 제한기
+ * - 모델별로 동시에 실행 가능한 호출 수(Semaphore)와 초당 호출 수(토큰 버킷)를 제한
+ * - 병렬 워커가 많아져도 OpenAI Rate Limit(429)에 걸리지 않도록 보호
+ * - 모델 이름을 지정하지 않으면 기본 챗 모델(spring.ai.openai.chat.options.model) 기준으로 제한
+ */
+@Component
+@Slf4j
+public class AiCallThrottle {
+
+    private final String defaultModel;
+    private final int maxConcurrency;
+    private final double requestsPerSecond;
+
+    // 모델 이름 → 제한 상태
+    private final Map<String, ModelLimit> limits = new ConcurrentHashMap<>();
+
+    public AiCallThrottle(
+            @Value("${spring.ai.openai.chat.options.model:gpt-4o-mini}") String defaultModel,
+            @Value("${ai.throttle.max-concurrency:4}") int maxConcurrency,
+            @Value("${ai.throttle.requests-per-second:3}") double requestsPerSecond) {
+        this.defaultModel = defaultModel;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    /**
+     * 기본 모델 기준으로 제한을 걸고 작업 실행
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        return call(defaultModel, task);
+    }
+
+    /**
+     * 지정한 모델 기준으로 제한을 걸고 작업 실행
+     * - 동시 실행 슬롯 확보 → 속도 토큰 확보 → 작업 실행 → 슬롯 반납
+     */
+    public <T> T call(String model, Callable<T> task) throws Exception {
+        ModelLimit limit = limits.computeIfAbsent(model, key -> new ModelLimit(
+                new Semaphore(maxConcurrency, true),
+                new TokenBucketRateLimiter(requestsPerSecond, maxConcurrency)));
+
+        limit.permits().acquire();
+        try {
+            limit.rateLimiter().acquireBlocking();
+            return task.call();
+        } finally {
+            limit.permits().release();
+        }
+    }
+
+    private record ModelLimit(Semaphore permits, TokenBucketRateLimiter rateLimiter) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 마감 시간이 있는 병렬 작업 묶음 (구조적 동시성)
+ * - try-with-resources 블록 안에서 fork한 작업만 가상 스레드로 동시에 실행
+ * - join: 모두 끝나면 반환 / 하나라도 실패하면 나머지를 취소하고 그 예외를 던짐 / 마감 시간이 지나면 모두 취소 후 TimeoutException
+ * - joinAll: 실패한 작업이 있어도 마감 시간까지 나머지를 기다림 → 끝난 작업 결과만 쓰고 나머지는 호출한 쪽에서 대체
+ * - 블록을 벗어나면 남은 작업을 모두 인터럽트하고 끝날 때까지 기다림 → 요청이 끝난 뒤까지 살아남는 작업이 없음
+ *   (가상 스레드의 소켓 I/O·HttpClient 대기는 인터럽트로 풀리므로 대기는 짧음)
+ * - 대기 중 호출 스레드가 인터럽트되면 인터럽트 상태를 되살린 뒤 InterruptedException을 던짐
+ * - Java 21의 StructuredTaskScope(ShutdownOnFailure)는 preview라 같은 규칙을 일반 API로 구현
+ *
+ * <pre>
+ * try (DeadlineTaskScope scope = new DeadlineTaskScope()) {
+ *     Supplier&lt;A&gt; a = scope.fork(() -> ...);
+ *     Supplier&lt;B&gt; b = scope.fork(() -> ...);
+ *     scope.join(Duration.ofSeconds(60));
+ *     use(a.get(), b.get());
+ * }
+ * </pre>
+ */
+public class DeadlineTaskScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Future<?>> threads = new ArrayList<>();
+    private final List<CompletableFuture<?>> results = new ArrayList<>();
+
+    // 첫 실패 알림 (성공으로 완료되는 일은 없음)
+    private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+    /**
+     * 작업 시작
+     *
+     * @return join이 정상 반환된 뒤에 결과를 꺼낼 수 있는 Supplier
+     *         (joinAll 이후에는 실패/시간 초과한 작업이면 CompletionException을 던짐)
+     */
+    public <T> Supplier<T> fork(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        threads.add(executor.submit(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                firstFailure.completeExceptionally(e);
+            }
+        }));
+        results.add(result);
+        return result::join;
+    }
+
+    /**
+     * 모든 작업 완료 대기
+     *
+     * @param timeout join 호출 시점부터의 마감 시간
+     * @throws TimeoutException 마감 시간 안에 끝나지 않음 (남은 작업은 취소됨)
+     * @throws Exception        먼저 실패한 작업의 예외 (남은 작업은 취소됨)
+     */
+    public void join(Duration timeout) throws Exception {
+        CompletableFuture<Void> all = CompletableFuture.allOf(results.toArray(CompletableFuture[]::new));
+        try {
+            CompletableFuture.anyOf(all, firstFailure).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            cancelAll();
+            throw (e.getCause() instanceof Exception cause) ? cause : e;
+        } catch (TimeoutException e) {
+            cancelAll();
+            throw e;
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * 모든 작업이 성공하든 실패하든 끝날 때까지 마감 시간 안에서 대기 (부분 결과 허용)
+     * - 마감 시간까지 끝나지 않은 작업은 취소되고, 그 Supplier는 TimeoutException을 원인으로 하는
+     *   CompletionException을 던짐 (인터럽트에 반응하지 않는 작업도 결과를 기다리지 않음)
+     *
+     * @param timeout joinAll 호출 시점부터의 마감 시간
+     */
+    public void joinAll(Duration timeout) throws InterruptedException {
+        CompletableFuture<Void> all = CompletableFuture.allOf(results.toArray(CompletableFuture[]::new));
+        try {
+            all.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // 모두 끝났고 일부가 실패함 → 작업별 Supplier에서 확인
+        } catch (TimeoutException e) {
+            TimeoutException timedOut = new TimeoutException("deadline exceeded: " + timeout);
+            results.forEach(result -> result.completeExceptionally(timedOut));
+            cancelAll();
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    // 실행 중인 작업 인터럽트
+    private void cancelAll() {
+        threads.forEach(thread -> thread.cancel(true));
+    }
+
+    /**
+     * 남은 작업 취소 후 모든 작업 스레드가 끝날 때까지 대기
+     * - 대기 중 인터럽트되어도 끝까지 기다린 뒤 인터럽트 상태를 되살림 (ExecutorService.close 규칙)
+     */
+    @Override
+    public void close() {
+        cancelAll();
+        executor.shutdownNow();
+        executor.close();
+    }
+}
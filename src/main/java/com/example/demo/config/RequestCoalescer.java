@@ -0,0 +1,205 @@
+package com.example.demo.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실시간 코칭 요청 병합기 (debounce + coalescing)
+ * - 타이핑 중 연달아 들어오는 같은 키(회원/문서/입력 필드)의 요청을 한 번의 LLM 호출로 합침
+ * - 마지막 요청 후 windowMillis 동안 새 요청이 없으면 실행 (단, 첫 요청 후 maxWaitMillis는 넘기지 않음)
+ * - 실행되는 건 가장 최신 요청 하나뿐이고, 그 사이에 대기하던 요청들은 모두 같은 (최신) 결과를 받음
+ * - 실행 중에 들어온 요청은 다음 묶음으로 모아서 실행이 끝난 뒤 다시 debounce
+ * - 요청은 timeoutMillis까지만 결과를 기다리고, 실행도 timeoutMillis가 지나면 취소 후 슬롯을 비움
+ *   (LLM 호출이 멈춰도 같은 키의 요청 스레드가 무한정 묶이거나 이후 요청이 실행되지 않는 일 방지)
+ */
+@Component
+@Slf4j
+public class RequestCoalescer {
+
+    private final long windowMillis;
+    private final long maxWaitMillis;
+    private final long timeoutMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService runner = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 키 → 대기 중인 요청 묶음 (모든 변경은 synchronized (slots) 안에서)
+    private final Map<String, Slot> slots = new HashMap<>();
+
+    public RequestCoalescer(
+            @Value("${ai.coalesce.window-ms:500}") long windowMillis,
+            @Value("${ai.coalesce.max-wait-ms:2000}") long maxWaitMillis,
+            @Value("${ai.coalesce.timeout-ms:60000}") long timeoutMillis) {
+        this.windowMillis = Math.max(0, windowMillis);
+        this.maxWaitMillis = Math.max(this.windowMillis, maxWaitMillis);
+        this.timeoutMillis = Math.max(1, timeoutMillis);
+    }
+
+    /**
+     * 요청 등록 후 (병합된) 결과 대기
+     *
+     * @param key  병합 기준 키 (예: "guide:1:3:title")
+     * @param task 이 요청의 실제 작업 (더 새로운 요청이 오면 실행되지 않고 버려짐)
+     * @return 이 요청이 속한 묶음의 최신 요청 실행 결과
+     * @throws TimeoutException timeoutMillis 안에 결과가 나오지 않음
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T submit(String key, Callable<T> task) throws Exception {
+        CompletableFuture<Object> waiter = new CompletableFuture<>();
+
+        synchronized (slots) {
+            Slot slot = slots.computeIfAbsent(key, k -> new Slot());
+            if (slot.waiters.isEmpty()) {
+                slot.firstRequestedAt = System.currentTimeMillis(); // 새 묶음 시작
+            } else {
+                log.debug("요청 병합 - key: {}, 대기 {}건", key, slot.waiters.size() + 1);
+            }
+            slot.latest = (Callable<Object>) task;
+            slot.waiters.add(waiter);
+
+            if (slot.current == null) {
+                schedule(key, slot);
+            }
+        }
+
+        try {
+            return (T) waiter.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw (e.getCause() instanceof Exception cause) ? cause : e;
+        } catch (TimeoutException e) {
+            abandon(key, waiter);
+            log.warn("병합 요청 결과 대기 시간 초과 - key: {}, {}ms", key, timeoutMillis);
+            throw e;
+        }
+    }
+
+    // 시간 초과로 결과를 더 기다리지 않는 요청을 대기 묶음에서 제거 (남은 요청이 없으면 예약된 실행도 취소)
+    private void abandon(String key, CompletableFuture<Object> waiter) {
+        synchronized (slots) {
+            Slot slot = slots.get(key);
+            if (slot == null || !slot.waiters.remove(waiter) || !slot.waiters.isEmpty()) {
+                return;
+            }
+            slot.latest = null;
+            if (slot.timer != null) {
+                slot.timer.cancel(false);
+                slot.timer = null;
+            }
+            if (slot.current == null) {
+                slots.remove(key);
+            }
+        }
+    }
+
+    // debounce 타이머 재설정 (synchronized (slots) 안에서 호출)
+    private void schedule(String key, Slot slot) {
+        if (slot.timer != null) {
+            slot.timer.cancel(false);
+        }
+        long now = System.currentTimeMillis();
+        long delay = Math.min(windowMillis, slot.firstRequestedAt + maxWaitMillis - now);
+        slot.timer = scheduler.schedule(() -> fire(key), Math.max(0, delay), TimeUnit.MILLISECONDS);
+    }
+
+    // 타이머 만료 → 최신 요청 실행
+    private void fire(String key) {
+        Callable<Object> task;
+        Execution execution;
+
+        synchronized (slots) {
+            Slot slot = slots.get(key);
+            if (slot == null || slot.current != null || slot.latest == null) {
+                return;
+            }
+            task = slot.latest;
+            execution = new Execution(slot.waiters);
+
+            slot.latest = null;
+            slot.waiters = new ArrayList<>();
+            slot.timer = null;
+            slot.current = execution;
+        }
+
+        Future<?> future = runner.submit(() -> run(key, task, execution));
+        // 시간 초과 → 대기 요청은 실패 처리, 실행은 인터럽트로 취소 시도, 슬롯은 바로 비워서 다음 묶음 진행
+        scheduler.schedule(() -> {
+            if (!future.isDone()) {
+                log.warn("병합 요청 실행 시간 초과 - key: {}, {}ms", key, timeoutMillis);
+                execution.batch.forEach(waiter -> waiter.completeExceptionally(
+                        new TimeoutException("요청 실행 시간 초과 (" + timeoutMillis + "ms)")));
+                future.cancel(true);
+                release(key, execution);
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run(String key, Callable<Object> task, Execution execution) {
+        try {
+            Object result = task.call();
+            execution.batch.forEach(waiter -> waiter.complete(result));
+        } catch (Throwable e) {
+            execution.batch.forEach(waiter -> waiter.completeExceptionally(e));
+        } finally {
+            release(key, execution);
+        }
+    }
+
+    // 실행 종료(또는 시간 초과) → 슬롯 비우기 (이미 시간 초과로 비운 실행이면 무시)
+    private void release(String key, Execution execution) {
+        synchronized (slots) {
+            Slot slot = slots.get(key);
+            if (slot == null || slot.current != execution) {
+                return;
+            }
+            slot.current = null;
+            if (slot.latest != null) {
+                // 실행 중에 새 요청이 들어옴 → 다음 묶음 debounce
+                schedule(key, slot);
+            } else {
+                slots.remove(key);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        runner.shutdown();
+    }
+
+    // 키별 요청 묶음
+    private static final class Slot {
+        Callable<Object> latest; // 아직 실행하지 않은 가장 최신 요청
+        List<CompletableFuture<Object>> waiters = new ArrayList<>(); // 결과를 기다리는 요청들
+        long firstRequestedAt; // 현재 묶음의 첫 요청 시각
+        ScheduledFuture<?> timer;
+        Execution current; // 실행 중인 묶음 (없으면 null)
+    }
+
+    // 실행 중인 묶음 (시간 초과 후 늦게 끝난 실행이 다음 묶음의 슬롯을 비우지 않도록 구분)
+    private static final class Execution {
+        final List<CompletableFuture<Object>> batch;
+
+        Execution(List<CompletableFuture<Object>> batch) {
+            this.batch = batch;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 토큰 버킷 방식의 호출 속도 제한기
+ * - 외부 API(네이버 등)의 초당 호출 한도(QPS)를 고정 sleep 대신 실제 예산으로 지킴
+ * - permitsPerSecond 속도로 토큰이 채워지고, 최대 burst개까지 쌓일 수 있음
+ * - 토큰이 없으면 다음 토큰이 생길 때까지 기다릴 시간을 "예약"해서 돌려줌
+ *   → 동시에 여러 호출이 들어와도 순서대로 간격이 벌어짐
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano; // 나노초당 채워지는 토큰 수
+    private final double burst; // 버킷 최대 용량
+
+    private double tokens; // 현재 남은 토큰 (음수 = 이미 예약된 대기열)
+    private long lastRefillNanos; // 마지막으로 토큰을 채운 시각
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다.");
+        }
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 예약
+     * @return 호출 전에 기다려야 하는 시간 (나노초, 0이면 즉시 호출 가능)
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+
+        // 경과 시간만큼 토큰 채우기 (최대 burst)
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0L;
+        }
+        // 부족한 토큰이 채워질 때까지의 시간
+        return (long) Math.ceil(-tokens / permitsPerNano);
+    }
+
+    /**
+     * 리액티브 파이프라인용: 토큰이 생길 때까지 지연 후 완료되는 Mono
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            if (waitNanos == 0L) {
+                return Mono.empty();
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    /**
+     * 동기 호출용: 토큰이 생길 때까지 현재 스레드 대기
+     */
+    public void acquireBlocking() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0L) {
+            Thread.sleep(Duration.ofNanos(waitNanos));
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.example.demo.coverletter.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,6 +23,8 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import reactor.core.publisher.Flux;
+
 @RestController
 @RequestMapping("/coverletter")
 public class CoverLetterController {
@@ -31,9 +35,15 @@ public class CoverLetterController {
 
     // 자소서 작성 시 실시간 코칭 받기---------------------------------------------------
     @PostMapping("/realtime-coach")
-    public ResponseEntity<CoverLetterCoachResponse> coach(@RequestBody CoverLetterCoachRequest request) { 
+    public ResponseEntity<CoverLetterCoachResponse> coach(@RequestBody CoverLetterCoachRequest request) throws Exception { 
         return ResponseEntity.ok(coverLetterService.realtimeCoach(request));        
     }
+
+    // 자소서 작성 시 실시간 코칭 받기 (SSE 스트리밍: token = 평문 코칭 조각, result = 구조화된 최종 결과) ---------
+    @PostMapping(value = "/realtime-coach/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> coachStream(@RequestBody CoverLetterCoachRequest request) {
+        return coverLetterService.realtimeCoachStream(request);
+    }
     
 
     // 자소서 리포트 생성-------------------------------------------------------------
@@ -8,6 +8,7 @@ import lombok.Data;
 @Data
 public class CoverLetterCoachRequest {
     private int memberId;   //사용자 ID
+    private Integer coverletterId; //작성 중인 자소서 ID (새로 작성 중이면 null)
     private String section; //항목
     private String content; //사용자가 입력한 내용
     private List<String> keywords; // 선택한 키워드
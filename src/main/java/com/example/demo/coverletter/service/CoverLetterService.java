@@ -1,13 +1,18 @@
 package com.example.demo.coverletter.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 
 import com.example.demo.ai.coverletter.CreateWritingStyleAgent;
 import com.example.demo.ai.coverletter.FinalFeedbackAgent;
 import com.example.demo.ai.coverletter.RealtimeCoachingAgent;
+import com.example.demo.config.RequestCoalescer;
 import com.example.demo.coverletter.dao.CoverLetterDao;
 import com.example.demo.coverletter.dto.request.CoverLetterCoachRequest;
 import com.example.demo.coverletter.dto.response.CoverLetterCoachResponse;
@@ -16,7 +21,13 @@ import com.example.demo.coverletter.dto.response.CoverLetterFinalFeedback;
 import com.example.demo.coverletter.dto.response.WritingStyle;
 import com.example.demo.coverletter.entity.CoverLetter;
 
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
 @Service
+@Slf4j
 public class CoverLetterService {
 
     // DAO
@@ -31,10 +42,57 @@ public class CoverLetterService {
     @Autowired
     private RealtimeCoachingAgent realtimeCoachingAgent;
 
+    // 타이핑 중 연속 코칭 요청 병합
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    // 진행 중인 스트리밍 코칭 (회원/자소서/항목 → 취소 신호)
+    private final Map<String, Sinks.One<Boolean>> streamingCoaches = new ConcurrentHashMap<>();
+
     // 자소서 작성 시 실시간 코칭 받기 -------------------------------------------------------------------------------------------
-    public CoverLetterCoachResponse realtimeCoach(CoverLetterCoachRequest request) {
-        // AI Agent 호출
-        return realtimeCoachingAgent.execute(request);
+    public CoverLetterCoachResponse realtimeCoach(CoverLetterCoachRequest request) throws Exception {
+        // AI Agent 호출 (같은 회원/자소서/항목의 연속 요청은 최신 초안 1건만 평가하고 결과 공유)
+        String key = "coverletter:" + request.getMemberId() + ":" + request.getCoverletterId() + ":" + request.getSection();
+        return requestCoalescer.submit(key, () -> realtimeCoachingAgent.execute(request));
+    }
+
+    // 자소서 작성 시 실시간 코칭 받기 (스트리밍) ----------------------------------------------------------------------------------
+    // token: 생성 중인 코칭 조각 / result: 완성된 코칭 / cancelled: 새 초안이 들어와 중단됨 / error: 실패
+    public Flux<ServerSentEvent<Object>> realtimeCoachStream(CoverLetterCoachRequest request) {
+
+        // 같은 자소서 같은 항목의 이전 생성은 취소 (오래된 초안에 토큰 낭비 방지)
+        String key = request.getMemberId() + ":" + request.getCoverletterId() + ":" + request.getSection();
+        Sinks.One<Boolean> cancelSignal = Sinks.one();
+        Sinks.One<Boolean> previous = streamingCoaches.put(key, cancelSignal);
+        if (previous != null) {
+            log.info("새 초안 수신 - 이전 코칭 생성 취소: {}", key);
+            previous.tryEmitValue(true);
+        }
+
+        // 토큰은 평문 코칭 조각 (화면에 바로 출력), 끝나면 모은 전체를 구조화한 result 전송
+        StringBuilder text = new StringBuilder();
+        AtomicBoolean superseded = new AtomicBoolean();
+
+        Flux<ServerSentEvent<Object>> tokens = realtimeCoachingAgent.stream(request)
+            .doOnNext(text::append)
+            .map(token -> ServerSentEvent.<Object>builder(token).event("token").build())
+            // 취소 신호가 오면 구독 해제 → 진행 중인 모델 호출도 취소
+            .takeUntilOther(cancelSignal.asMono().doOnNext(superseded::set));
+
+        Mono<ServerSentEvent<Object>> last = Mono.fromSupplier(() -> {
+            if (superseded.get()) {
+                return ServerSentEvent.<Object>builder("새 초안으로 대체되었습니다.").event("cancelled").build();
+            }
+            return ServerSentEvent.<Object>builder(realtimeCoachingAgent.toResponse(text.toString())).event("result").build();
+        });
+
+        return tokens
+            .concatWith(last)
+            .onErrorResume(e -> {
+                log.error("실시간 코칭 스트리밍 실패 - {}", key, e);
+                return Mono.just(ServerSentEvent.<Object>builder(String.valueOf(e.getMessage())).event("error").build());
+            })
+            .doFinally(signal -> streamingCoaches.remove(key, cancelSignal));
     }
 
 
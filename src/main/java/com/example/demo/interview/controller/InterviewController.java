@@ -23,6 +23,10 @@ import com.example.demo.interview.entity.InterviewAnswer;
 import com.example.demo.interview.entity.InterviewQuestion;
 import com.example.demo.interview.entity.InterviewSession;
 import com.example.demo.interview.service.InterviewService;
+import com.example.demo.storage.MediaStreamer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 
 @RestController
@@ -33,6 +37,9 @@ public class InterviewController {
     @Autowired
     private InterviewService interviewService;
 
+    @Autowired
+    private MediaStreamer mediaStreamer;
+
     // 면접 세션 종료 & 종합 피드백 생성========================================================================================================================
     @PostMapping("/final-feedback")
     public ResponseEntity<SessionFeedbackResponse> createInterviewFinalFeedback(@RequestParam("sessionId") int sessionId) throws Exception {
@@ -159,13 +166,23 @@ public class InterviewController {
 
     // 면접 질문 기반 답변 조회===============================================================================================================
     @GetMapping("/answer-by-question")
-    public ResponseEntity<InterviewAnswer> getAnswerByQuestionId(@RequestParam("questionId") int questionId) {
+    public ResponseEntity<InterviewAnswer> getAnswerByQuestionId(@RequestParam("questionId") int questionId) throws Exception {
         return ResponseEntity.ok(interviewService.getInterviewAnswersByQuestionId(questionId));
     }
 
     // 면접 답변 단건 조회===============================================================================================================================
     @GetMapping("/answer-detail")
-    public ResponseEntity<InterviewAnswer> getOneAnswer(@RequestParam("answerId") int answerId) {
+    public ResponseEntity<InterviewAnswer> getOneAnswer(@RequestParam("answerId") int answerId) throws Exception {
         return ResponseEntity.ok(interviewService.getOneInterviewAnswer(answerId));
     }
+
+    // 면접 답변 음성/영상 스트리밍 (Range 요청 시 206 Partial Content, ETag 일치 시 304)==========================================================================================
+    @GetMapping("/answer-media")
+    public void getAnswerMedia(
+        @RequestParam("answerId") int answerId,
+        @RequestParam("type") String type,
+        HttpServletRequest request,
+        HttpServletResponse response) throws Exception {
+        mediaStreamer.stream(interviewService.getAnswerMedia(answerId, type), request, response);
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.demo.interview.dao;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.example.demo.interview.entity.CompanyLookupCache;
+
+@Mapper
+public interface CompanyLookupCacheDao {
+
+  // 캐시 조회
+  public CompanyLookupCache selectCache(
+    @Param("cacheType") String cacheType,
+    @Param("cacheKey") String cacheKey);
+
+  // 캐시 저장 (이미 있으면 갱신)
+  public int upsertCache(CompanyLookupCache cache);
+
+  // 유형별 캐시 값 전체 조회 (자동완성 인덱스 초기화용)
+  public List<String> selectCacheValues(@Param("cacheType") String cacheType);
+
+}
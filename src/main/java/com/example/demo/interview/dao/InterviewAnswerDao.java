@@ -23,6 +23,18 @@ public interface InterviewAnswerDao {
   // 답변 STT로 변환된 텍스트 업데이트
   public int updateAnswerText(@Param("answerId") int answerId, @Param("answerText") String answerText);
 
+  // 답변 파일 스트리밍용 조회 (type: audio / video)
+  public InterviewAnswer selectAnswerMedia(@Param("answerId") int answerId, @Param("type") String type);
+
+  // blob 저장소로 옮기지 않은 기존 답변 중 lastId 다음 1건 조회 (없으면 null)
+  public InterviewAnswer selectOneLegacyMediaAnswer(@Param("lastId") int lastId);
+
+  // 기존 답변 파일을 blob 참조로 교체
+  public int updateAnswerBlobIds(
+    @Param("answerId") int answerId,
+    @Param("audioBlobId") String audioBlobId,
+    @Param("videoBlobId") String videoBlobId);
+
   // 답변 피드백 업데이트
   public int updateAnswerFeedback(@Param("answerId") int answerId, @Param("answerFeedback") String answerFeedback);
 
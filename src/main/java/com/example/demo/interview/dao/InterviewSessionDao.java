@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 
+import com.example.demo.interview.dto.response.InterviewReportRow;
 import com.example.demo.interview.entity.InterviewSession;
 
 @Mapper
@@ -21,4 +22,10 @@ public interface InterviewSessionDao {
   // 면접 리포트 상세보기 시 면접 정보 조회
   public InterviewSession selectOneInterviewSession(int sessionId);
 
+  // 면접 리포트 상세 조회 (세션/질문/답변 조인, 파일 바이트 제외, 질문 순)
+  public List<InterviewReportRow> selectInterviewReportRows(int sessionId);
+
+  // 면접 대상 기업명 목록 조회 (자동완성 인덱스 초기화용, 많이 선택된 순)
+  public List<String> selectTargetCompanies();
+
 }
@@ -14,9 +14,9 @@ public class InterviewQAResponse {
 
     private String audioFileName;   // 오디오 파일 이름
     private String audioFileType;   // 오디오 파일 타입
-    private byte[]  audioFileData;  // 오디오 파일 데이터
+    private String audioUrl;    // 오디오 스트리밍 주소 (파일이 없으면 null)
 
     private String videoFileName;   // 비디오 파일 이름
     private String videoFileType;   // 비디오 파일 타입
-    private byte[] videoFileData;   // 비디오 파일 데이터
+    private String videoUrl;    // 비디오 스트리밍 주소 (파일이 없으면 null)
 }
@@ -0,0 +1,36 @@
+package com.example.demo.interview.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+// 리포트 상세 조회용 읽기 모델 (세션 + 질문 + 답변을 한 번에 조인한 한 행, 파일 바이트 제외)
+
+@Data
+public class InterviewReportRow {
+    // 세션 (행마다 반복)
+    private Integer sessionId;
+    private Integer memberId;
+    private String interviewType;
+    private String targetCompany;
+    private String documentFileName;
+    private String documentFileType;
+    private String reportFeedback;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 질문 (질문이 없는 세션이면 null)
+    private Integer questionId;
+    private String questionText;
+
+    // 답변 (답변이 없으면 null)
+    private Integer answerId;
+    private String answerText;
+    private String answerFeedback;
+    private String audioFileName;
+    private String audioFileType;
+    private boolean hasAudio; // 음성 파일 존재 여부 (blob 또는 기존 bytea)
+    private String videoFileName;
+    private String videoFileType;
+    private boolean hasVideo; // 영상 파일 존재 여부 (blob 또는 기존 bytea)
+}
@@ -0,0 +1,17 @@
+package com.example.demo.interview.dto.response;
+
+import java.util.List;
+
+import lombok.Data;
+
+// AI 영상(이미지 프레임) 종합 분석 구조
+@Data
+public class VisualFeedbackResponse {
+  private int frameCount; //분석한 프레임 수 (0이면 영상 분석 없음, AI 응답이 아닌 코드에서 설정)
+
+  private String facialExpression;  //표정 분석
+  private String posture; //자세 분석
+  private String eyeContact;  //시선 분석
+  private String overallFeedback; //비언어적 요소 종합 피드백
+  private List<String> improvementPoints; //개선 포인트
+}
@@ -0,0 +1,20 @@
+package com.example.demo.interview.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+/*
+  기업 검색/인재상 조회 결과 캐시 (company_lookup_cache)
+
+  cacheType: search(기업명 자동완성) / ideal(인재상 요약)
+  cacheKey: 정규화한 검색어 또는 기업명
+*/
+
+@Data
+public class CompanyLookupCache {
+  private String cacheType; // 캐시 종류
+  private String cacheKey; // 정규화한 검색어/기업명
+  private String valueJson; // 결과 JSON
+  private LocalDateTime refreshedAt; // 마지막 갱신일
+}
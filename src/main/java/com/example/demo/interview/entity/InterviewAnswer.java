@@ -11,11 +11,15 @@ public class InterviewAnswer {
 
   private String audioFileName;  //오디오 파일 이름
   private String audioFileType; //오디오 파일 타입
-  private byte[] audioFileData; //오디오 파일 데이터
+  private byte[] audioFileData; //오디오 파일 데이터 (blob 저장소 이전 전 기존 답변만)
+  private String audioBlobId; //오디오 파일 blob ID (BlobStorage)
+  private String audioUrl; //오디오 스트리밍 주소 (조회 응답용, DB 컬럼 아님)
 
   private String videoFileName; //비디오 파일 이름
   private String videoFileType; //비디오 파일 타입
-  private byte[] videoFileData; //비디오 파일 데이터
+  private byte[] videoFileData; //비디오 파일 데이터 (blob 저장소 이전 전 기존 답변만)
+  private String videoBlobId; //비디오 파일 blob ID (BlobStorage)
+  private String videoUrl; //비디오 스트리밍 주소 (조회 응답용, DB 컬럼 아님)
 
   private String answerText;  //답변 내용(STT 결과)
   private String answerFeedback;  //답변별 피드백
@@ -0,0 +1,242 @@
+package com.example.demo.interview.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.ai.interview.CompanyIdealTalentAgent;
+import com.example.demo.ai.interview.CompanySearchAgent;
+import com.example.demo.interview.dao.CompanyLookupCacheDao;
+import com.example.demo.interview.dto.response.CompanySearchResponse;
+import com.example.demo.interview.entity.CompanyLookupCache;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기업 검색(자동완성) / 인재상 조회 결과 캐시
+ * - 1차: 메모리 LRU, 2차: company_lookup_cache 테이블
+ * - freshTtl 이내: 그대로 반환
+ * - freshTtl ~ staleTtl: 캐시 값을 바로 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - staleTtl 초과 또는 없음: 외부 API/AI 호출 후 저장
+ * - 자동완성은 정확한 검색어가 없으면 캐시된 더 짧은 검색어 결과를 걸러서 먼저 반환
+ */
+@Service
+@Slf4j
+public class CompanyLookupCacheService {
+
+    static final String TYPE_SEARCH = "search";
+    private static final String TYPE_IDEAL = "ideal";
+
+    private final CompanySearchAgent companySearchAgent;
+    private final CompanyIdealTalentAgent companyIdealTalentAgent;
+    private final CompanyLookupCacheDao companyLookupCacheDao;
+    private final ObjectMapper objectMapper;
+
+    private final Duration freshTtl;
+    private final Duration staleTtl;
+
+    // 메모리 LRU ("type|key" → 값)
+    private final Map<String, CachedValue> cache;
+
+    // 백그라운드 갱신 중인 키 (같은 키 중복 갱신 방지)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CompanyLookupCacheService(
+            CompanySearchAgent companySearchAgent,
+            CompanyIdealTalentAgent companyIdealTalentAgent,
+            CompanyLookupCacheDao companyLookupCacheDao,
+            ObjectMapper objectMapper,
+            @Value("${interview.company-cache.max-entries:2000}") int maxEntries,
+            @Value("${interview.company-cache.fresh-hours:24}") long freshHours,
+            @Value("${interview.company-cache.stale-days:7}") long staleDays) {
+        this.companySearchAgent = companySearchAgent;
+        this.companyIdealTalentAgent = companyIdealTalentAgent;
+        this.companyLookupCacheDao = companyLookupCacheDao;
+        this.objectMapper = objectMapper;
+        this.freshTtl = Duration.ofHours(freshHours);
+        this.staleTtl = Duration.ofDays(staleDays);
+
+        int capacity = Math.max(1, maxEntries);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValue> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 기업명 자동완성 (네이버 검색 + AI 추출 결과 캐시)
+     */
+    public List<String> searchCompanyNames(String query) {
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> cached = lookup(TYPE_SEARCH, key, new TypeReference<List<String>>() {
+        }, () -> companySearchAgent.searchCompanyNames(query));
+        if (cached != null) {
+            return cached;
+        }
+
+        // 정확한 검색어 캐시가 없으면 더 짧은 검색어 결과 중 일치하는 것을 먼저 반환하고 백그라운드에서 조회
+        List<String> fromPrefix = matchFromShorterQuery(key);
+        if (fromPrefix != null) {
+            refreshAsync(TYPE_SEARCH, key, () -> companySearchAgent.searchCompanyNames(query));
+            return fromPrefix;
+        }
+
+        return load(TYPE_SEARCH, key, () -> companySearchAgent.searchCompanyNames(query));
+    }
+
+    /**
+     * 기업 인재상 요약 (AI 결과 캐시)
+     */
+    public CompanySearchResponse getCompanyIdealTalent(String companyName) {
+        String key = normalize(companyName);
+        Supplier<CompanySearchResponse> loader = () -> companyIdealTalentAgent.searchCompanyIdealTalent(companyName);
+
+        CompanySearchResponse cached = lookup(TYPE_IDEAL, key, new TypeReference<CompanySearchResponse>() {
+        }, loader);
+        return cached != null ? cached : load(TYPE_IDEAL, key, loader);
+    }
+
+    // 메모리 → 테이블 순서로 조회 (stale이면 백그라운드 갱신 예약), 없거나 너무 오래됐으면 null
+    private <T> T lookup(String type, String key, TypeReference<T> typeRef, Supplier<T> loader) {
+        String cacheKey = type + "|" + key;
+
+        CachedValue entry;
+        synchronized (cache) {
+            entry = cache.get(cacheKey);
+        }
+
+        if (entry == null) {
+            entry = readFromTable(type, key, typeRef);
+            if (entry != null) {
+                synchronized (cache) {
+                    cache.put(cacheKey, entry);
+                }
+            }
+        }
+
+        if (entry == null) {
+            return null;
+        }
+
+        Duration age = Duration.between(entry.refreshedAt(), LocalDateTime.now());
+        if (age.compareTo(staleTtl) > 0) {
+            return null;
+        }
+        if (age.compareTo(freshTtl) > 0) {
+            refreshAsync(type, key, loader);
+        }
+
+        @SuppressWarnings("unchecked")
+        T value = (T) entry.value();
+        return value;
+    }
+
+    // 외부 호출 후 두 캐시에 저장
+    private <T> T load(String type, String key, Supplier<T> loader) {
+        T value = loader.get();
+        store(type, key, value);
+        return value;
+    }
+
+    private <T> void refreshAsync(String type, String key, Supplier<T> loader) {
+        String cacheKey = type + "|" + key;
+        if (!refreshing.add(cacheKey)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                load(type, key, loader);
+                log.debug("기업 캐시 백그라운드 갱신 완료 - {}", cacheKey);
+            } catch (Exception e) {
+                log.warn("기업 캐시 백그라운드 갱신 실패 - {}: {}", cacheKey, e.getMessage());
+            } finally {
+                refreshing.remove(cacheKey);
+            }
+        });
+    }
+
+    // "삼성전" → "삼성", "삼" 순으로 메모리 캐시를 찾아 검색어를 포함하는 기업명만 반환
+    private List<String> matchFromShorterQuery(String key) {
+        for (int length = key.length() - 1; length > 0; length--) {
+            CachedValue entry;
+            synchronized (cache) {
+                entry = cache.get(TYPE_SEARCH + "|" + key.substring(0, length));
+            }
+            if (entry == null) {
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            List<String> names = (List<String>) entry.value();
+            List<String> matched = names.stream()
+                    .filter(name -> normalize(name).contains(key))
+                    .toList();
+            return matched.isEmpty() ? null : matched;
+        }
+        return null;
+    }
+
+    private void store(String type, String key, Object value) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (cache) {
+            cache.put(type + "|" + key, new CachedValue(value, now));
+        }
+
+        try {
+            CompanyLookupCache row = new CompanyLookupCache();
+            row.setCacheType(type);
+            row.setCacheKey(key);
+            row.setValueJson(objectMapper.writeValueAsString(value));
+            row.setRefreshedAt(now);
+            companyLookupCacheDao.upsertCache(row);
+        } catch (Exception e) {
+            log.warn("기업 캐시 테이블 저장 실패 - {}|{}: {}", type, key, e.getMessage());
+        }
+    }
+
+    private <T> CachedValue readFromTable(String type, String key, TypeReference<T> typeRef) {
+        try {
+            CompanyLookupCache row = companyLookupCacheDao.selectCache(type, key);
+            if (row == null) {
+                return null;
+            }
+            return new CachedValue(objectMapper.readValue(row.getValueJson(), typeRef), row.getRefreshedAt());
+        } catch (Exception e) {
+            log.warn("기업 캐시 테이블 조회 실패 - {}|{}: {}", type, key, e.getMessage());
+            return null;
+        }
+    }
+
+    // 공백 정리 + 소문자 ("  Samsung  전자 " → "samsung 전자")
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    @PreDestroy
+    void shutdownRefreshExecutor() {
+        refreshExecutor.shutdown();
+    }
+
+    private record CachedValue(Object value, LocalDateTime refreshedAt) {
+    }
+}
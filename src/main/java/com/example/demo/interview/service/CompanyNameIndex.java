@@ -0,0 +1,232 @@
+package com.example.demo.interview.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.interview.dao.CompanyLookupCacheDao;
+import com.example.demo.interview.dao.InterviewSessionDao;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기업명 자동완성 로컬 인덱스 (trie)
+ * - 키: 정규화한 기업명 (소문자, 공백/법인 표기 제거 → "(주) 카카오 뱅크" = "카카오뱅크")
+ * - 각 노드에 그 접두어로 시작하는 기업명 상위 maxSuggestions개를 미리 정렬해 둠
+ *   → 조회는 접두어 길이만큼 내려가서 목록을 그대로 반환 (전체 탐색 없음)
+ * - 정렬 기준: 사용 횟수(면접 대상 기업 선택) 내림차순 → 기업명 오름차순
+ *   → 검색 결과로 들어온 기업명은 처음 한 번만 추가하고 사용 횟수는 올리지 않음 (노출이 많다고 순위가 오르지 않도록)
+ * - 시작 시 interview_session.target_company와 지난 검색 결과(company_lookup_cache)로 채움
+ * - 읽기가 대부분이므로 ReadWriteLock 사용
+ */
+@Component
+@Slf4j
+public class CompanyNameIndex {
+
+    private final InterviewSessionDao interviewSessionDao;
+    private final CompanyLookupCacheDao companyLookupCacheDao;
+    private final ObjectMapper objectMapper;
+
+    private final int maxSuggestions;
+    private final int maxNames; // 인덱스에 넣을 최대 기업 수 (초과분은 무시)
+
+    private final Node root = new Node();
+    // 정규화 키 → 기업명/사용 횟수
+    private final Map<String, IndexedName> names = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public CompanyNameIndex(
+            InterviewSessionDao interviewSessionDao,
+            CompanyLookupCacheDao companyLookupCacheDao,
+            ObjectMapper objectMapper,
+            @Value("${interview.company-index.max-suggestions:10}") int maxSuggestions,
+            @Value("${interview.company-index.max-names:50000}") int maxNames) {
+        this.interviewSessionDao = interviewSessionDao;
+        this.companyLookupCacheDao = companyLookupCacheDao;
+        this.objectMapper = objectMapper;
+        this.maxSuggestions = Math.max(1, maxSuggestions);
+        this.maxNames = Math.max(1, maxNames);
+    }
+
+    /**
+     * 서버 시작 후 기존 데이터로 인덱스 채우기
+     * - 실패해도 빈 인덱스로 시작 (검색 시 원격 조회 결과로 채워짐)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        int before = size();
+
+        try {
+            addAll(interviewSessionDao.selectTargetCompanies());
+        } catch (Exception e) {
+            log.warn("기업명 인덱스 초기화 실패 (면접 대상 기업): {}", e.getMessage());
+        }
+
+        try {
+            for (String valueJson : companyLookupCacheDao.selectCacheValues(CompanyLookupCacheService.TYPE_SEARCH)) {
+                addAllIfAbsent(objectMapper.readValue(valueJson, new TypeReference<List<String>>() {
+                }));
+            }
+        } catch (Exception e) {
+            log.warn("기업명 인덱스 초기화 실패 (지난 검색 결과): {}", e.getMessage());
+        }
+
+        log.info("기업명 인덱스 초기화 완료 - {}개", size() - before);
+    }
+
+    /**
+     * 접두어로 기업명 조회
+     *
+     * @param query 입력한 검색어
+     * @return 사용 횟수 순 기업명 (없으면 빈 목록)
+     */
+    public List<String> suggest(String query) {
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return node.top.stream().map(IndexedName::displayName).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기업명 추가 (이미 있으면 사용 횟수 +1)
+     */
+    public void add(String companyName) {
+        add(companyName, true);
+    }
+
+    /**
+     * 검색 결과 기업명 추가 (없을 때만, 사용 횟수는 올리지 않음)
+     */
+    public void addIfAbsent(String companyName) {
+        add(companyName, false);
+    }
+
+    private void add(String companyName, boolean countUse) {
+        String key = normalize(companyName);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            IndexedName current = names.get(key);
+            if (current == null && names.size() >= maxNames) {
+                return;
+            }
+            if (current != null && !countUse) {
+                return;
+            }
+            IndexedName updated = current == null
+                    ? new IndexedName(key, companyName.trim(), 1)
+                    : new IndexedName(key, current.displayName(), current.weight() + 1);
+            names.put(key, updated);
+
+            // 경로상의 모든 노드(= 모든 접두어)의 상위 목록 갱신
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.offer(updated, maxSuggestions);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(Collection<String> companyNames) {
+        if (companyNames == null) {
+            return;
+        }
+        for (String companyName : companyNames) {
+            add(companyName);
+        }
+    }
+
+    public void addAllIfAbsent(Collection<String> companyNames) {
+        if (companyNames == null) {
+            return;
+        }
+        for (String companyName : companyNames) {
+            addIfAbsent(companyName);
+        }
+    }
+
+    // 접두어 하나에 보관하는 최대 기업명 수 (suggest 결과 최대 개수)
+    public int getMaxSuggestions() {
+        return maxSuggestions;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 소문자 + 법인 표기/공백 제거 ("(주) Kakao 뱅크" → "kakao뱅크")
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase()
+                .replace("(주)", "")
+                .replace("㈜", "")
+                .replace("주식회사", "")
+                .replaceAll("\\s+", "");
+    }
+
+    // trie 노드 (모든 접근은 lock 안에서)
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        final List<IndexedName> top = new ArrayList<>(); // 이 접두어의 상위 기업명 (정렬 상태 유지)
+
+        // 사용 횟수는 늘기만 하므로 기존 항목을 빼고 제자리에 다시 끼워 넣으면 됨
+        void offer(IndexedName name, int limit) {
+            top.removeIf(existing -> existing.key().equals(name.key()));
+
+            int index = 0;
+            while (index < top.size() && rank(top.get(index), name) <= 0) {
+                index++;
+            }
+            if (index < limit) {
+                top.add(index, name);
+                if (top.size() > limit) {
+                    top.remove(top.size() - 1);
+                }
+            }
+        }
+
+        private static int rank(IndexedName a, IndexedName b) {
+            int byWeight = Integer.compare(b.weight(), a.weight());
+            return byWeight != 0 ? byWeight : a.key().compareTo(b.key());
+        }
+    }
+
+    private record IndexedName(String key, String displayName, int weight) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.interview.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.interview.dao.InterviewAnswerDao;
+import com.example.demo.interview.entity.InterviewAnswer;
+import com.example.demo.storage.BlobStorage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 면접 답변 파일(bytea) → blob 저장소 이전
+ * - storage.blob.migrate-legacy=true일 때만 서버 시작 후 백그라운드(가상 스레드)에서 실행
+ * - 한 번에 한 건씩 옮겨서 메모리에는 답변 하나의 파일만 올라감
+ * - answer_id 순으로 마지막 처리 ID 다음 건을 조회 (처음부터 다시 찾지 않음)
+ * - 이전에 실패한 답변은 로그만 남기고 건너뜀 (다음 실행 때 다시 시도)
+ * - 옮긴 뒤 bytea 컬럼은 비움 (테이블 공간은 VACUUM 후 회수)
+ */
+@Service
+@Slf4j
+public class InterviewMediaMigrationService {
+
+    private final InterviewAnswerDao interviewAnswerDao;
+    private final BlobStorage blobStorage;
+    private final boolean enabled;
+
+    public InterviewMediaMigrationService(
+            InterviewAnswerDao interviewAnswerDao,
+            BlobStorage blobStorage,
+            @Value("${storage.blob.migrate-legacy:false}") boolean enabled) {
+        this.interviewAnswerDao = interviewAnswerDao;
+        this.blobStorage = blobStorage;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (enabled) {
+            Thread.ofVirtual().name("interview-media-migration").start(this::migrateAll);
+        }
+    }
+
+    /**
+     * 남은 기존 답변을 모두 이전
+     *
+     * @return 이전한 답변 수
+     */
+    public int migrateAll() {
+        int migrated = 0;
+        int failed = 0;
+        int lastId = 0;
+        try {
+            InterviewAnswer answer;
+            while ((answer = interviewAnswerDao.selectOneLegacyMediaAnswer(lastId)) != null) {
+                lastId = answer.getAnswerId();
+                try {
+                    migrate(answer);
+                    migrated++;
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("면접 답변 파일 blob 이전 실패, 건너뜀 - answerId={}: {}", lastId, e.getMessage(), e);
+                }
+            }
+            log.info("면접 답변 파일 blob 이전 완료 - 성공 {}건, 실패 {}건", migrated, failed);
+        } catch (Exception e) {
+            log.error("면접 답변 파일 blob 이전 중단 - {}건 이전 후 오류: {}", migrated, e.getMessage(), e);
+        }
+        return migrated;
+    }
+
+    private void migrate(InterviewAnswer answer) throws IOException {
+        String audioBlobId = answer.getAudioBlobId();
+        if (audioBlobId == null && answer.getAudioFileData() != null) {
+            audioBlobId = blobStorage.store(new ByteArrayInputStream(answer.getAudioFileData())).blobId();
+        }
+        String videoBlobId = answer.getVideoBlobId();
+        if (videoBlobId == null && answer.getVideoFileData() != null) {
+            videoBlobId = blobStorage.store(new ByteArrayInputStream(answer.getVideoFileData())).blobId();
+        }
+
+        interviewAnswerDao.updateAnswerBlobIds(answer.getAnswerId(), audioBlobId, videoBlobId);
+    }
+}
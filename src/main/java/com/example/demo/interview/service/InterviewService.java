@@ -1,20 +1,30 @@
 package com.example.demo.interview.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.demo.ai.interview.AnswerFeedbackAgent;
-import com.example.demo.ai.interview.CompanyIdealTalentAgent;
-import com.example.demo.ai.interview.CompanySearchAgent;
 import com.example.demo.ai.interview.CreateQuestionAgent;
 import com.example.demo.ai.interview.InterviewFeedbackAgent;
 import com.example.demo.ai.interview.STTAgent;
 import com.example.demo.ai.interview.VisualAnalysisAgent;
+import com.example.demo.config.DeadlineTaskScope;
 import com.example.demo.interview.dao.InterviewAnswerDao;
 import com.example.demo.interview.dao.InterviewQuestionDao;
 import com.example.demo.interview.dao.InterviewSessionDao;
@@ -24,12 +34,18 @@ import com.example.demo.interview.dto.response.AnswerFeedbackResponse;
 import com.example.demo.interview.dto.response.CompanySearchResponse;
 import com.example.demo.interview.dto.response.InterviewQAResponse;
 import com.example.demo.interview.dto.response.InterviewReportResponse;
+import com.example.demo.interview.dto.response.InterviewReportRow;
 import com.example.demo.interview.dto.response.SaveSessionResponse;
 import com.example.demo.interview.dto.response.SessionFeedbackResponse;
 import com.example.demo.interview.dto.response.TotalQuestionResponse;
+import com.example.demo.interview.dto.response.VisualFeedbackResponse;
 import com.example.demo.interview.entity.InterviewAnswer;
 import com.example.demo.interview.entity.InterviewQuestion;
 import com.example.demo.interview.entity.InterviewSession;
+import com.example.demo.storage.BlobInfo;
+import com.example.demo.storage.BlobResource;
+import com.example.demo.storage.BlobStorage;
+import com.example.demo.storage.MediaContent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
@@ -55,11 +71,28 @@ public class InterviewService {
     @Autowired
     private AnswerFeedbackAgent answerFeedbackAgent;
     @Autowired
-    private CompanySearchAgent companySearchAgent;
+    private InterviewFeedbackAgent interviewFeedbackAgent;
+
+    // 기업 검색/인재상 결과 캐시
     @Autowired
-    private CompanyIdealTalentAgent companyIdealTalentAgent;
+    private CompanyLookupCacheService companyLookupCacheService;
     @Autowired
-    private InterviewFeedbackAgent interviewFeedbackAgent;
+    private CompanyNameIndex companyNameIndex;
+
+    // 답변 음성/영상 파일 종류 (스트리밍 주소의 type)
+    private static final String MEDIA_AUDIO = "audio";
+    private static final String MEDIA_VIDEO = "video";
+
+    // 음성이 없을 때의 답변 텍스트
+    private static final String NO_SPEECH_TEXT = "음성 입력이 감지되지 않았습니다.";
+
+    // 답변 분석(STT + 영상 분석) 공통 마감 시간
+    @Value("${interview.answer-analysis-timeout-seconds:120}")
+    private long answerAnalysisTimeoutSeconds;
+
+    // 답변 음성/영상 파일 저장소
+    @Autowired
+    private BlobStorage blobStorage;
 
     // ObjectMapper
     @Autowired
@@ -85,12 +118,25 @@ public class InterviewService {
     // 면접 상세 조회 (리포트 상세보기)=====================================================================================
     public InterviewReportResponse getInterviewReport(int sessionId) throws Exception {
 
-        // 1) 세션 정보 조회
-        InterviewSession session = interviewSessionDao.selectOneInterviewSession(sessionId);
-        if (session == null) {
+        // 1) 세션 + 질문 + 답변을 한 번에 조회 (파일 바이트 제외, 질문당 한 행)
+        List<InterviewReportRow> rows = interviewSessionDao.selectInterviewReportRows(sessionId);
+        if (rows.isEmpty()) {
             throw new RuntimeException("Interview session not found");
         }
 
+        // 면접 기본 정보
+        InterviewReportRow first = rows.get(0);
+        InterviewSession session = new InterviewSession();
+        session.setSessionId(first.getSessionId());
+        session.setMemberId(first.getMemberId());
+        session.setInterviewType(first.getInterviewType());
+        session.setTargetCompany(first.getTargetCompany());
+        session.setDocumentFileName(first.getDocumentFileName());
+        session.setDocumentFileType(first.getDocumentFileType());
+        session.setReportFeedback(first.getReportFeedback());
+        session.setCreatedAt(first.getCreatedAt());
+        session.setUpdatedAt(first.getUpdatedAt());
+
         // 2) 종합 피드백 불러오기
         SessionFeedbackResponse finalFeedback = null;
 
@@ -100,41 +146,42 @@ public class InterviewService {
                     SessionFeedbackResponse.class);
         }
 
-        // 3) 질문 + 답변 조회
-        // 질문 목록 얻기
-        List<InterviewQuestion> questions = interviewQuestionDao.selectInterviewQuestionsBySessionId(sessionId);
-        // 질문 - 답변 목록 얻기
+        // 3) 질문 - 답변 목록 (음성/영상은 스트리밍 주소만 전달)
         List<InterviewQAResponse> qaList = new ArrayList<>();
 
-        for (InterviewQuestion q : questions) {
-            // 질문 ID를 통해 답변 얻기
-            InterviewAnswer answer = interviewAnswerDao.selectInterviewAnswerByQuestionId(q.getQuestionId());
-        
+        for (InterviewReportRow row : rows) {
+            if (row.getQuestionId() == null) {
+                continue; // 질문이 없는 세션
+            }
+
             InterviewQAResponse qaResponse = new InterviewQAResponse();
-            qaResponse.setQuestionId(q.getQuestionId());
-            qaResponse.setQuestionText(q.getQuestionText());
-
-            if (answer != null) {
-                qaResponse.setAnswerId(answer.getAnswerId());
-                qaResponse.setAnswerText(answer.getAnswerText());
-                
-                if (answer.getAnswerFeedback() != null) {
+            qaResponse.setQuestionId(row.getQuestionId());
+            qaResponse.setQuestionText(row.getQuestionText());
+
+            if (row.getAnswerId() != null) {
+                qaResponse.setAnswerId(row.getAnswerId());
+                qaResponse.setAnswerText(row.getAnswerText());
+
+                if (row.getAnswerFeedback() != null) {
                     // JSON 문자열 -> 객체로 변환
-                    AnswerFeedbackResponse feedbackObj = objectMapper.readValue(answer.getAnswerFeedback(), AnswerFeedbackResponse.class);
+                    AnswerFeedbackResponse feedbackObj = objectMapper.readValue(row.getAnswerFeedback(), AnswerFeedbackResponse.class);
                     qaResponse.setAnswerFeedback(feedbackObj);
                 }
 
                 // 답변 원본 파일(음성/영상)
-                qaResponse.setAudioFileName(answer.getAudioFileName());
-                qaResponse.setAudioFileType(answer.getAudioFileType());
-                qaResponse.setAudioFileData(answer.getAudioFileData());
-                qaResponse.setVideoFileName(answer.getVideoFileName());
-                qaResponse.setVideoFileType(answer.getVideoFileType());
-                qaResponse.setVideoFileData(answer.getVideoFileData());
+                qaResponse.setAudioFileName(row.getAudioFileName());
+                qaResponse.setAudioFileType(row.getAudioFileType());
+                if (row.isHasAudio()) {
+                    qaResponse.setAudioUrl(answerMediaUrl(row.getAnswerId(), MEDIA_AUDIO));
+                }
+                qaResponse.setVideoFileName(row.getVideoFileName());
+                qaResponse.setVideoFileType(row.getVideoFileType());
+                if (row.isHasVideo()) {
+                    qaResponse.setVideoUrl(answerMediaUrl(row.getAnswerId(), MEDIA_VIDEO));
+                }
             }
 
             qaList.add(qaResponse);
-
         }
 
         // 면접 상세 정보 얻기
@@ -192,12 +239,33 @@ public class InterviewService {
 
     // 기업 검색=====================================================================================
     public List<String> searchCompany(String query) {
-        return companySearchAgent.searchCompanyNames(query);
+        // 로컬 인덱스 결과가 가득 차면 바로 반환, 부족하면 원격(캐시/검색 API/AI) 결과를 뒤에 합쳐서 반환
+        List<String> local = companyNameIndex.suggest(query);
+        if (local.size() >= companyNameIndex.getMaxSuggestions()) {
+            return local;
+        }
+
+        List<String> remote = companyLookupCacheService.searchCompanyNames(query);
+        // 검색어로 시작하는 기업명만 인덱스에 추가 (AI/검색 API가 준 관련 기업명까지 넣으면 다른 접두어 결과가 오염됨)
+        String prefix = CompanyNameIndex.normalize(query);
+        companyNameIndex.addAllIfAbsent(remote.stream()
+                .filter(name -> CompanyNameIndex.normalize(name).startsWith(prefix))
+                .toList());
+
+        // 정규화한 이름 기준으로 중복 제거 (로컬 결과 먼저)
+        Map<String, String> merged = new LinkedHashMap<>();
+        for (String name : local) {
+            merged.putIfAbsent(CompanyNameIndex.normalize(name), name);
+        }
+        for (String name : remote) {
+            merged.putIfAbsent(CompanyNameIndex.normalize(name), name);
+        }
+        return new ArrayList<>(merged.values());
     }
 
     // 사용자가 선택한 기업의 인재상 검색 및 요약
     public CompanySearchResponse searchCompanyIdealTalent(String companyName) {
-        CompanySearchResponse response = companyIdealTalentAgent.searchCompanyIdealTalent(companyName);
+        CompanySearchResponse response = companyLookupCacheService.getCompanyIdealTalent(companyName);
         return response;
     }
 
@@ -219,6 +287,7 @@ public class InterviewService {
         // 세션 저장
         interviewSessionDao.insertInterviewSession(session);
         Integer sessionId = session.getSessionId();
+        companyNameIndex.add(targetCompany);
         log.info("sessionId : {}", sessionId);
 
         // AI 질문과 사용자 질문 합치기
@@ -266,18 +335,18 @@ public class InterviewService {
             MultipartFile audio,
             MultipartFile video) throws Exception {
 
-        // DB에 답변 원본 파일 저장
+        // 답변 원본 파일은 blob 저장소에, DB에는 blob ID만 저장
         InterviewAnswer answer = new InterviewAnswer();
         answer.setQuestionId(questionId);
 
         if (audio != null && !audio.isEmpty()) {
             answer.setAudioFileName(audio.getOriginalFilename());
             answer.setAudioFileType(audio.getContentType());
-            answer.setAudioFileData(audio.getBytes());
+            answer.setAudioBlobId(storeUpload(audio));
         } else if (video != null && !video.isEmpty()) {
             answer.setVideoFileName(video.getOriginalFilename());
             answer.setVideoFileType(video.getContentType());
-            answer.setVideoFileData(video.getBytes());
+            answer.setVideoBlobId(storeUpload(video));
         }
 
         interviewAnswerDao.insertInterviewAnswer(answer);
@@ -289,7 +358,7 @@ public class InterviewService {
     // 답변 다시 제출===================================================================================
     public int modifyInterviewAnswer(int answerId, MultipartFile audio, MultipartFile video) throws Exception {
 
-        // DB에 답변 원본 파일 업데이트
+        // 답변 원본 파일 교체 (blob 저장소에 새로 저장 후 blob ID 갱신)
         InterviewAnswer answer = interviewAnswerDao.selectOneAnswer(answerId);
         if (answer == null) {
             throw new RuntimeException("Answer not found");
@@ -298,11 +367,11 @@ public class InterviewService {
         if (audio != null && !audio.isEmpty()) {
             answer.setAudioFileName(audio.getOriginalFilename());
             answer.setAudioFileType(audio.getContentType());
-            answer.setAudioFileData(audio.getBytes());
+            answer.setAudioBlobId(storeUpload(audio));
         } else if (video != null && !video.isEmpty()) {
             answer.setVideoFileName(video.getOriginalFilename());
             answer.setVideoFileType(video.getContentType());
-            answer.setVideoFileData(video.getBytes());
+            answer.setVideoBlobId(storeUpload(video));
         }
 
         return interviewAnswerDao.updateInterviewAnswer(answer);
@@ -324,7 +393,7 @@ public class InterviewService {
             throw new RuntimeException("Answer not found");
         }
 
-        // 2. STT Agent 호출 - 변환된 텍스트 얻기
+        // 2. STT Agent / VisualAnalysis Agent 동시 호출 (서로 독립적)
 
         // 변환할 파일
         byte[] sttBytes = null;
@@ -350,30 +419,43 @@ public class InterviewService {
 
         } else {
             log.warn("=== [STT INPUT] No audio/videoAudio file received ===");
-
-            sttBytes = null;
         }
 
         // 변환된 텍스트
-        String answerText = "음성 입력이 감지되지 않았습니다.";
-        // 영상에서 추출한 오디오일 경우
-        if (videoAudio != null && !videoAudio.isEmpty()) {
-            answerText = sttAgent.sttSave(
-                    answerId,
-                    videoAudio.getOriginalFilename(),
-                    videoAudio.getBytes());
-        } else if (audio != null && !audio.isEmpty()) {
-            // 순수 음성일 경우
-            answerText = sttAgent.sttSave(
-                    answerId,
-                    audio.getOriginalFilename(),
-                    audio.getBytes());
+        String answerText = NO_SPEECH_TEXT;
+        // 이미지 프레임 종합 분석 결과
+        VisualFeedbackResponse visualFeedback;
+
+        // 두 작업에 같은 마감 시간 적용 → 한쪽이 늦거나 실패하면 그쪽만 대체 값 사용
+        try (DeadlineTaskScope scope = new DeadlineTaskScope()) {
+            final byte[] sttInput = sttBytes;
+            final String sttFileName = fileName;
+
+            // 변환 결과는 마감 안에 끝났을 때만 저장 (늦게 끝난 변환이 이후 결과를 덮어쓰지 않도록 여기서는 변환만)
+            Supplier<Optional<String>> sttResult = sttInput != null
+                    ? scope.fork(() -> Optional.ofNullable(sttAgent.transcribe(sttFileName, sttInput)))
+                    : null;
+            // 프레임 전체를 한 번의 요청으로 분석 (중복 프레임 제거 + 축소)
+            Supplier<VisualFeedbackResponse> visualResult = scope.fork(() -> visualAnalysisAgent.analyzeFramesBatch(frames));
+
+            scope.joinAll(Duration.ofSeconds(answerAnalysisTimeoutSeconds));
+
+            if (sttResult != null) {
+                Optional<String> transcript = resultOrElse(sttResult, "STT", Optional.empty());
+                if (transcript.isPresent()) {
+                    answerText = transcript.get();
+                    interviewAnswerDao.updateAnswerText(answerId, answerText);
+                } else {
+                    // STT가 늦거나 실패하면 이전에 변환해 둔 텍스트, 없으면 음성 없음으로 피드백 진행
+                    String previousText = answer.getAnswerText();
+                    answerText = previousText != null && !previousText.isBlank() ? previousText : NO_SPEECH_TEXT;
+                }
+            }
+            // 영상 분석이 늦거나 실패하면 비언어적 피드백 없이 진행
+            visualFeedback = resultOrElse(visualResult, "영상 분석", new VisualFeedbackResponse());
         }
-        
-        // 3. VisualAnalysis Agent 호출 - 이미지 프레임 분석 리스트 얻기
-        List<String> visualFeedback = visualAnalysisAgent.analyzeFrames(frames);
 
-        // 4. AnswerFeedback Agent 호출 - 답변별 피드백 생성
+        // 3. AnswerFeedback Agent 호출 - 답변별 피드백 생성
         AnswerFeedbackResponse answerFeedback = answerFeedbackAgent.execute(answerId, answerText, visualFeedback);
 
         return answerFeedback;
@@ -381,12 +463,79 @@ public class InterviewService {
 
     // 면접 질문 선택 시 해당하는 답변 조회===================================================================
     public InterviewAnswer getInterviewAnswersByQuestionId(int questionId) {
-        return interviewAnswerDao.selectInterviewAnswerByQuestionId(questionId);
+        return withMediaUrls(interviewAnswerDao.selectInterviewAnswerByQuestionId(questionId));
     }
 
     // 답변 ID로 답변 조회==================================================================================
     public InterviewAnswer getOneInterviewAnswer(int answerId) {
-        return interviewAnswerDao.selectOneAnswer(answerId);
+        return withMediaUrls(interviewAnswerDao.selectOneAnswer(answerId));
+    }
+
+    // 답변 음성/영상 파일 (스트리밍용)=====================================================================
+    public MediaContent getAnswerMedia(int answerId, String type) throws Exception {
+        boolean video = MEDIA_VIDEO.equals(type);
+        if (!video && !MEDIA_AUDIO.equals(type)) {
+            throw new IllegalArgumentException("type은 audio 또는 video만 가능합니다.");
+        }
+
+        InterviewAnswer answer = interviewAnswerDao.selectAnswerMedia(answerId, type);
+        if (answer == null) {
+            throw new NoSuchElementException("답변을 찾을 수 없습니다.");
+        }
+
+        String blobId = video ? answer.getVideoBlobId() : answer.getAudioBlobId();
+        byte[] legacyData = video ? answer.getVideoFileData() : answer.getAudioFileData();
+        String contentType = video ? answer.getVideoFileType() : answer.getAudioFileType();
+        String fileName = video ? answer.getVideoFileName() : answer.getAudioFileName();
+
+        if (blobId != null) {
+            BlobInfo blob = blobStorage.stat(blobId);
+            if (blob == null) {
+                throw new NoSuchElementException("파일을 찾을 수 없습니다.");
+            }
+            return new MediaContent(new BlobResource(blobStorage, blob), contentType, fileName);
+        }
+        if (legacyData != null) {
+            // blob 저장소로 옮기기 전 답변
+            return new MediaContent(new ByteArrayResource(legacyData), contentType, fileName);
+        }
+        throw new NoSuchElementException("파일을 찾을 수 없습니다.");
+    }
+
+    private static String answerMediaUrl(int answerId, String type) {
+        return "/interview/answer-media?answerId=" + answerId + "&type=" + type;
+    }
+
+    // 업로드 파일을 blob 저장소에 스트리밍 저장 (getBytes()로 전체를 메모리에 올리지 않음)
+    private String storeUpload(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return blobStorage.store(in).blobId();
+        }
+    }
+
+    // 동시 작업 결과 꺼내기 (실패/시간 초과 시 대체 값)
+    private static <T> T resultOrElse(Supplier<T> result, String taskName, T fallback) {
+        try {
+            return result.get();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.warn("{} 실패 - 대체 값 사용: {}", taskName, cause.toString());
+            return fallback;
+        }
+    }
+
+    // 파일 내용 대신 스트리밍 주소 채움 (파일 이름은 파일이 있을 때만 저장됨)
+    private static InterviewAnswer withMediaUrls(InterviewAnswer answer) {
+        if (answer == null) {
+            return null;
+        }
+        if (answer.getAudioBlobId() != null || answer.getAudioFileName() != null) {
+            answer.setAudioUrl(answerMediaUrl(answer.getAnswerId(), MEDIA_AUDIO));
+        }
+        if (answer.getVideoBlobId() != null || answer.getVideoFileName() != null) {
+            answer.setVideoUrl(answerMediaUrl(answer.getAnswerId(), MEDIA_VIDEO));
+        }
+        return answer;
     }
 
 }
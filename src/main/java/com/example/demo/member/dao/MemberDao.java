@@ -11,4 +11,6 @@ public interface MemberDao {
     public Member findById(@Param("memberId") Integer memberId);
     public Member findByLoginId(@Param("loginId") String loginId);
     public int update(Member member);
+    // 최근 이용 시각 갱신 (로그인/피드 조회 → 일일 뉴스 수집 대상)
+    public int touchLastActive(@Param("memberId") Integer memberId);
 }
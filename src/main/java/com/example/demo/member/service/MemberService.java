@@ -13,6 +13,7 @@ import com.example.demo.member.entity.Member;
 import com.example.demo.newstrend.dao.JobInsightDao;
 import com.example.demo.newstrend.dao.NewsSummaryDao;
 import com.example.demo.newstrend.dao.TrendInsightDao;
+import com.example.demo.newstrend.service.NewsIngestService;
 
 @Service
 public class MemberService {
@@ -24,6 +25,8 @@ public class MemberService {
   private NewsSummaryDao newsSummaryDao;
   @Autowired
   private TrendInsightDao trendInsightDao;
+  @Autowired
+  private NewsIngestService newsIngestService;
 
   /*
    * 회원가입
@@ -64,7 +67,9 @@ public class MemberService {
     if (!member.getMemberPassword().equals(request.getPassword())) {
       throw new RuntimeException("비밀번호가 일치하지 않습니다.");
     }
-    
+
+    memberDao.touchLastActive(member.getMemberId());
+
     MemberResponse response = new MemberResponse();
     response.setMemberId(member.getMemberId());
     response.setMemberName(member.getMemberName());
@@ -109,14 +114,20 @@ public class MemberService {
     if (request.getCareerYears() != null)
       member.setCareerYears(request.getCareerYears());
 
+    // 업데이트 실행
+    int updated = memberDao.update(member);
+
     if (jobChanged) {
       jobInsightDao.deleteJobInsightByMember(memberId);
       trendInsightDao.deleteTrendInsightByMember(memberId);
+
+      // 새 직군 기준으로 다시 수집 (오늘 이미 수집했어도 등록, 옛 직군으로 실행 중인 작업은 결과 연결 중단 후 재대기)
+      // → 실행 중인 작업을 먼저 막은 뒤 기존 뉴스 연결 삭제
+      newsIngestService.requestIngest(memberId, 50, true);
       newsSummaryDao.deleteAllNews(memberId);
     }
 
-    // 업데이트 실행
-    return memberDao.update(member);
+    return updated;
   }
 
 }
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -22,10 +23,13 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.demo.newstrend.dto.request.NewsAnalysisRequest;
 import com.example.demo.newstrend.dto.response.NewsAnalysisResponse;
 import com.example.demo.newstrend.dto.response.NewsKeywordResponse;
+import com.example.demo.newstrend.entity.NewsIngestJob;
+import com.example.demo.newstrend.service.NewsIngestService;
 import com.example.demo.newstrend.service.NewsSummaryService;
 import com.example.demo.newstrend.service.TotalNewsService;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 
 /**
@@ -44,6 +48,9 @@ public class NewsController {
     @Autowired
     private NewsSummaryService newsSummaryService;
 
+    @Autowired
+    private NewsIngestService newsIngestService;
+
     @GetMapping("/today")
     public ResponseEntity<Map<String, Object>> getTodayNews(
             @RequestParam int memberId,
@@ -57,6 +64,7 @@ public class NewsController {
             response.put("message", "오늘 뉴스 조회 완료");
             response.put("data", todayNewsList);
             response.put("totalCount", todayNewsList.size());
+            response.put("ingestJob", newsIngestService.getLatestJob(memberId)); // 백그라운드 수집 상태
 
             log.info("오늘 뉴스 조회 완료 - {}건 반환", todayNewsList.size());
             return ResponseEntity.ok(response);
@@ -97,11 +105,78 @@ public class NewsController {
         response.put("message", "뉴스 피드 조회 완료");
         response.put("data", feedList);
         response.put("totalCount", feedList.size());
+        response.put("ingestJob", newsIngestService.getLatestJob(memberId)); // 백그라운드 수집 상태
 
         log.info("뉴스 피드 조회 완료 - {}건 반환", feedList.size());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 회원 맞춤 뉴스 피드 스트리밍 (SSE)
+     * 
+     * GET /trend/news/feed/stream?memberId=1&limit=15
+     * 
+     * 이벤트: feed(현재 피드) → queued(수집 작업 등록/합류) → progress(수집/재사용/평가 단계) → news(피드에 추가된 기사 1건씩) → done
+     */
+    @GetMapping(value = "/feed/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamNewsFeed(
+            @RequestParam int memberId,
+            @RequestParam(defaultValue = "week") String period,
+            @RequestParam(defaultValue = "15") int limit) {
+        log.info("뉴스 피드 스트리밍 요청 - memberId: {}, limit: {}", memberId, limit);
+        return totalNewsService.streamNewsFeed(memberId, period, limit);
+    }
+
+    /**
+     * 백그라운드 뉴스 수집 작업 등록
+     * 
+     * POST /trend/news/ingest?memberId=1&limit=50
+     * 
+     * @return 등록된(또는 이미 진행 중인) 작업
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<Map<String, Object>> requestIngest(
+            @RequestParam int memberId,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        NewsIngestJob job = newsIngestService.requestIngest(memberId, limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("message", "뉴스 수집 작업 등록 완료");
+        response.put("data", job);
+
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * 백그라운드 뉴스 수집 작업 상태 조회 (폴링용)
+     * 
+     * GET /trend/news/ingest/{jobId}
+     * 
+     * @return 작업 상태 (PENDING / RUNNING / DONE / FAILED)
+     */
+    @GetMapping("/ingest/{jobId}")
+    public ResponseEntity<Map<String, Object>> getIngestJob(@PathVariable int jobId) {
+
+        NewsIngestJob job = newsIngestService.getJob(jobId);
+
+        if (job == null) {
+            Map<String, Object> notFound = new HashMap<>();
+            notFound.put("status", "error");
+            notFound.put("message", "해당 수집 작업이 존재하지 않습니다.");
+            notFound.put("data", null);
+            return ResponseEntity.status(404).body(notFound);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("message", "뉴스 수집 작업 조회 완료");
+        response.put("data", job);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 네이버 뉴스 검색 및 수집
     
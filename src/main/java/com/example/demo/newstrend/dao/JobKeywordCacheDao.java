@@ -0,0 +1,19 @@
+package com.example.demo.newstrend.dao;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface JobKeywordCacheDao {
+  // TTL 안에 생성된 키워드 JSON 조회 - 없거나 만료됐으면 null (Service: JobKeywordCacheService)
+  public String selectFreshKeywords(
+    @Param("jobGroup") String jobGroup,
+    @Param("jobRole") String jobRole,
+    @Param("ttlMinutes") long ttlMinutes);
+
+  // 키워드 저장 (이미 있으면 갱신)
+  public int upsertKeywords(
+    @Param("jobGroup") String jobGroup,
+    @Param("jobRole") String jobRole,
+    @Param("keywordsJson") String keywordsJson);
+}
@@ -0,0 +1,69 @@
+package com.example.demo.newstrend.dao;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import com.example.demo.newstrend.dto.response.NewsKeywordResponse;
+
+/**
+ * PostgreSQL text[] ↔ List<NewsKeywordResponse> 변환
+ * - 조회 시 keywords_json을 SQL에서 키워드 문자열 배열로 펼쳐서 받음
+ *   → 행마다 Jackson으로 JSON 파싱하지 않고 바로 DTO 리스트 생성
+ */
+public class KeywordListTypeHandler extends BaseTypeHandler<List<NewsKeywordResponse>> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, List<NewsKeywordResponse> parameter,
+            JdbcType jdbcType) throws SQLException {
+        String[] keywords = parameter.stream()
+                .map(NewsKeywordResponse::getKeyword)
+                .toArray(String[]::new);
+        ps.setArray(i, ps.getConnection().createArrayOf("text", keywords));
+    }
+
+    @Override
+    public List<NewsKeywordResponse> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toKeywords(rs.getArray(columnName));
+    }
+
+    @Override
+    public List<NewsKeywordResponse> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toKeywords(rs.getArray(columnIndex));
+    }
+
+    @Override
+    public List<NewsKeywordResponse> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toKeywords(cs.getArray(columnIndex));
+    }
+
+    // 키워드가 없으면 null 대신 빈 리스트 (클라이언트 처리 안전)
+    private List<NewsKeywordResponse> toKeywords(Array array) throws SQLException {
+        if (array == null) {
+            return new ArrayList<>();
+        }
+
+        List<NewsKeywordResponse> keywords = toKeywords((Object[]) array.getArray());
+        array.free();
+
+        return keywords;
+    }
+
+    // 배열 원소 → 키워드 DTO
+    private static List<NewsKeywordResponse> toKeywords(Object[] values) {
+        List<NewsKeywordResponse> keywords = new ArrayList<>(values.length);
+        for (Object value : values) {
+            NewsKeywordResponse keyword = new NewsKeywordResponse();
+            keyword.setKeyword((String) value);
+            keywords.add(keyword);
+        }
+        return keywords;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.newstrend.dao;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.example.demo.newstrend.entity.NewsIngestJob;
+
+@Mapper
+public interface NewsIngestJobDao {
+  // 작업 등록 - 진행 중인 작업이 있거나 오늘 이미 완료했으면 건너뜀, force면 오늘 완료 여부 무시 (Service: requestIngest)
+  public int insertJobIfAbsent(@Param("job") NewsIngestJob job, @Param("force") boolean force);
+
+  // 대기 중인 작업의 직군 변경 (직군 변경 후 재등록)
+  public int updatePendingJobGroup(@Param("memberId") int memberId, @Param("jobGroup") String jobGroup);
+
+  // 실행 중인 작업의 직군 변경 - 결과 연결을 막고 끝나면 다시 대기 (직군 변경 후 재등록)
+  public int supersedeRunningJob(@Param("memberId") int memberId, @Param("jobGroup") String jobGroup);
+
+  // 단건 조회 (Controller: /ingest/{jobId})
+  public NewsIngestJob selectJobById(int jobId);
+
+  // 회원의 최근 작업 조회 (피드 응답의 수집 상태 표시용)
+  public NewsIngestJob selectLatestJobByMemberId(int memberId);
+
+  // 가장 오래된 대기 작업의 직군을 골라 같은 직군 작업을 한 번에 점유 (Worker)
+  public List<NewsIngestJob> claimPendingJobsOfOneGroup(@Param("batchSize") int batchSize);
+
+  // 작업 실행 시작 (started_at 기록)
+  public int markStarted(@Param("jobIds") List<Integer> jobIds);
+
+  // 점유 중인 작업 생존 신호 갱신 (Worker: heartbeat)
+  public int touchJobs(@Param("jobIds") Collection<Integer> jobIds);
+
+  // 작업 완료 처리 (실행 중 직군이 바뀐 작업은 다시 대기)
+  public int markDone(@Param("jobId") int jobId, @Param("analyzedCount") int analyzedCount);
+
+  // 작업 실패 처리 (실행 중 직군이 바뀐 작업은 다시 대기)
+  public int markFailed(@Param("jobId") int jobId, @Param("errorMessage") String errorMessage);
+
+  // 생존 신호가 끊긴 RUNNING 작업(서버 중단 등)을 다시 대기 상태로
+  public int resetStaleJobs(@Param("staleMinutes") int staleMinutes);
+
+  // 최근 7일 내 로그인/피드 조회한 회원들의 일일 수집 작업 등록 (Worker: 매일 새벽)
+  public int insertDailyJobsForRecentMembers(@Param("fetchLimit") int fetchLimit);
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.example.demo.newstrend.dto.response.NewsAnalysisResponse;
 import com.example.demo.newstrend.entity.NewsSummary;
 
 @Mapper
@@ -14,31 +15,47 @@ public interface NewsSummaryDao {
   public int insertNewsSummary(NewsSummary newsSummary);
 
   // 상세보기 - 단일 뉴스 조회 (Controller: /detail/{summaryId})
-  public NewsSummary selectNewsSummaryById(int summaryId);
+  public NewsAnalysisResponse selectNewsAnalysisById(int summaryId);
+
+  // URL 목록으로 조회 (Service: getNewsByUrls - 재사용 기사 SSE 전송)
+  public List<NewsAnalysisResponse> selectNewsAnalysisBySourceUrls(@Param("sourceUrls") List<String> sourceUrls);
 
   // URL 중복 체크용 (Service: saveNewsSummary 내부)
   public NewsSummary selectNewsSummaryBySourceUrl(String sourceUrl);
 
+  // URL 일괄 중복 체크 - 이미 저장된 URL만 반환 (Service: collectNews)
+  public List<String> existsBySourceUrls(@Param("sourceUrls") List<String> sourceUrls);
+
+  // 회원-기사 연결 (Service: linkToMember)
+  public int insertMemberNews(
+    @Param("memberId") int memberId,
+    @Param("summaryId") int summaryId);
+
+  // 이미 분석된 기사 URL들을 회원에게 일괄 연결 (Service: linkToMemberByUrls)
+  public int insertMemberNewsBySourceUrls(
+    @Param("memberId") int memberId,
+    @Param("sourceUrls") List<String> sourceUrls);
+
   // 회원별 최신 뉴스 조회 (Controller: /member/{memberId}/latest)
   public List<NewsSummary> selectLatestNewsByMemberId(
     @Param("memberId") int memberId,
     @Param("limit") int limit);
 
   // 오늘 뉴스 조회 (Controller: /member/{memberId}/today)
-  public List<NewsSummary> selectNewsByMemberAndDate(
+  public List<NewsAnalysisResponse> selectNewsByMemberAndDate(
     @Param("memberId") int memberId,
     @Param("date") LocalDateTime date,
     @Param("limit") int limit);
 
   // 검색창 검색 (memberId 무관, 키워드 리스트, period 필터) - Controller: /search
-  List<NewsSummary> searchNewsByKeywordsAndDate(
+  List<NewsAnalysisResponse> searchNewsByKeywordsAndDate(
       @Param("keywords") List<String> keywords,
       @Param("period") String period,
       @Param("limit") int limit
   );
 
   // 피드 조회 (직군 기반 키워드, memberId 필터, 커서 페이징, period) - Controller: /member/{memberId}/feed
-  List<NewsSummary> findByJobGroupKeywords(
+  List<NewsAnalysisResponse> findByJobGroupKeywords(
       @Param("keywords") List<String> keywords,
       @Param("memberId") Integer memberId,
       @Param("period") String period,
@@ -48,7 +65,7 @@ public interface NewsSummaryDao {
   );
 
 
-  // 뉴스 삭제
+  // 회원 뉴스 삭제 (회원-기사 연결만 삭제)
   public int deleteAllNews(int memberId);
 
   // 오늘 수집된 뉴스 존재 여부 확인
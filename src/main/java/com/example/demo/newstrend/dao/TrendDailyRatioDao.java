@@ -0,0 +1,26 @@
+package com.example.demo.newstrend.dao;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.example.demo.newstrend.entity.TrendDailyRatio;
+
+@Mapper
+public interface TrendDailyRatioDao {
+  // 키워드들의 기간 내 일간 검색량 조회 (Service: TrendSeriesService)
+  public List<TrendDailyRatio> selectDailyRatios(
+    @Param("keywords") List<String> keywords,
+    @Param("startDate") LocalDate startDate,
+    @Param("endDate") LocalDate endDate);
+
+  // 일간 검색량 저장 (이미 있으면 갱신)
+  public int upsertDailyRatios(@Param("list") List<TrendDailyRatio> ratios);
+
+  // 기준값을 이어 붙일 수 없을 때 이전 기록 삭제
+  public int deleteDailyRatiosBefore(
+    @Param("keyword") String keyword,
+    @Param("beforeDate") LocalDate beforeDate);
+}
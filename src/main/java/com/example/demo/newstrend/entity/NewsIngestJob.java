@@ -0,0 +1,27 @@
+package com.example.demo.newstrend.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+/*
+  뉴스 수집 작업 큐 (news_ingest_job)
+
+  피드 요청 중에 직접 수집/분석하지 않고 작업만 등록
+  → NewsIngestWorker가 백그라운드에서 직군 단위로 묶어서 처리
+  → 프론트는 jobId로 상태(PENDING/RUNNING/DONE/FAILED)를 폴링
+*/
+
+@Data
+public class NewsIngestJob {
+  private Integer jobId; // 작업 ID(PK)
+  private Integer memberId; // 멤버 ID
+  private String jobGroup; // 직군 (같은 직군 작업끼리 묶어서 처리)
+  private Integer fetchLimit; // 수집 개수
+  private String status; // PENDING / RUNNING / DONE / FAILED
+  private Integer analyzedCount; // 분석 완료된 뉴스 수
+  private String errorMessage; // 실패 사유
+  private LocalDateTime requestedAt; // 등록일
+  private LocalDateTime startedAt; // 처리 시작일
+  private LocalDateTime finishedAt; // 처리 완료일
+}
@@ -0,0 +1,14 @@
+package com.example.demo.newstrend.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class TrendDailyRatio {
+  private String keyword; // 검색 키워드
+  private LocalDate trendDate; // 날짜
+  private Double ratio; // 일간 검색량 비율 (키워드별 기준값으로 이어 붙인 값, 키워드끼리는 비교 불가)
+  private LocalDateTime fetchedAt; // 데이터랩에서 가져온 시각
+}
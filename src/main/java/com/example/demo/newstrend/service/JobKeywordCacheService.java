@@ -0,0 +1,193 @@
+package com.example.demo.newstrend.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.ai.newstrend.JobKeywordGenerationAgent;
+import com.example.demo.newstrend.dao.JobKeywordCacheDao;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 직군 키워드 캐시
+ * - 키워드 생성 결과는 (직군, 직무) 두 값에만 의존 → 피드/무한 스크롤 요청마다 AI를 호출하지 않도록 캐싱
+ * - 1차: 메모리 LRU (최대 maxSize개, TTL 지나면 만료)
+ * - 2차: job_keyword_cache 테이블 (선택, 서버 재시작/다중 인스턴스 간 공유)
+ * - 같은 키를 동시에 조회하면 한 요청만 생성하고 나머지는 그 결과를 기다림 (single-flight)
+ * - AI 생성 실패 시 fallback 키워드는 짧은 TTL로 메모리에만 캐시 (테이블에는 저장하지 않음 → 곧 다시 생성 시도)
+ */
+@Service
+@Slf4j
+public class JobKeywordCacheService {
+
+    private final JobKeywordGenerationAgent jobKeywordGenerationAgent;
+    private final JobKeywordCacheDao jobKeywordCacheDao;
+
+    private final long ttlMillis;
+    private final long fallbackTtlMillis; // fallback 키워드 유효 시간
+    private final boolean persistent; // 테이블 캐시 사용 여부
+
+    // 메모리 LRU (accessOrder = true → 가장 오래 안 쓴 항목부터 제거)
+    private final Map<String, CachedKeywords> cache;
+
+    // 생성 중인 키 → 결과 (single-flight)
+    private final Map<String, CompletableFuture<List<String>>> inFlight = new ConcurrentHashMap<>();
+
+    public JobKeywordCacheService(
+            JobKeywordGenerationAgent jobKeywordGenerationAgent,
+            JobKeywordCacheDao jobKeywordCacheDao,
+            @Value("${news.keyword-cache.max-size:200}") int maxSize,
+            @Value("${news.keyword-cache.ttl-hours:24}") long ttlHours,
+            @Value("${news.keyword-cache.fallback-ttl-minutes:5}") long fallbackTtlMinutes,
+            @Value("${news.keyword-cache.persistent:true}") boolean persistent) {
+        this.jobKeywordGenerationAgent = jobKeywordGenerationAgent;
+        this.jobKeywordCacheDao = jobKeywordCacheDao;
+        this.ttlMillis = TimeUnit.HOURS.toMillis(ttlHours);
+        this.fallbackTtlMillis = TimeUnit.MINUTES.toMillis(fallbackTtlMinutes);
+        this.persistent = persistent;
+
+        int capacity = Math.max(1, maxSize);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedKeywords> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 직군/직무 키워드 조회 (캐시 → 테이블 → AI 생성 순)
+     *
+     * @param jobGroup 직군
+     * @param jobRole  세부 직무 (없으면 null)
+     * @return 키워드 목록 (불변)
+     */
+    public List<String> getKeywords(String jobGroup, String jobRole) {
+        String key = cacheKey(jobGroup, jobRole);
+
+        List<String> cached = getFromMemory(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 같은 키를 이미 생성 중이면 그 결과를 기다림
+        CompletableFuture<List<String>> flight = new CompletableFuture<>();
+        CompletableFuture<List<String>> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            log.debug("키워드 생성 대기 (다른 요청이 생성 중) - key: {}", key);
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw (e.getCause() instanceof RuntimeException re) ? re : e;
+            }
+        }
+
+        try {
+            CachedKeywords loaded = load(jobGroup, jobRole);
+            putToMemory(key, loaded);
+            flight.complete(loaded.keywords());
+            return loaded.keywords();
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 캐시 비우기 (참고 키워드/프롬프트 변경 시)
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    // 테이블에서 찾고, 없으면 AI로 생성 후 테이블에 저장 (AI 실패 시 fallback 키워드를 짧은 TTL로)
+    private CachedKeywords load(String jobGroup, String jobRole) {
+        String role = jobRole != null ? jobRole : "";
+
+        if (persistent && jobGroup != null) {
+            try {
+                String keywordsJson = jobKeywordCacheDao.selectFreshKeywords(
+                        jobGroup, role, TimeUnit.MILLISECONDS.toMinutes(ttlMillis));
+                if (keywordsJson != null) {
+                    log.info("직군 키워드 테이블 캐시 적중 - 직군: {}, 직무: {}", jobGroup, role);
+                    return expiringIn(toList(new JSONArray(keywordsJson)), ttlMillis);
+                }
+            } catch (Exception e) {
+                log.warn("직군 키워드 테이블 캐시 조회 실패 - AI 생성으로 진행: {}", e.getMessage());
+            }
+        }
+
+        List<String> keywords;
+        try {
+            keywords = List.copyOf(jobKeywordGenerationAgent.generateJobKeywords(jobGroup, jobRole));
+        } catch (RuntimeException e) {
+            log.error("AI 키워드 생성 실패 - 기존 검증된 키워드 사용 ({}분 후 재시도). 직군: {}, 직무: {}",
+                    TimeUnit.MILLISECONDS.toMinutes(fallbackTtlMillis), jobGroup, role, e);
+            return expiringIn(List.copyOf(jobKeywordGenerationAgent.fallbackKeywords(jobGroup)), fallbackTtlMillis);
+        }
+        log.info("직군 키워드 생성 - 직군: {}, 직무: {}, {}개", jobGroup, role, keywords.size());
+
+        if (persistent && jobGroup != null) {
+            try {
+                jobKeywordCacheDao.upsertKeywords(jobGroup, role, new JSONArray(keywords).toString());
+            } catch (Exception e) {
+                log.warn("직군 키워드 테이블 캐시 저장 실패: {}", e.getMessage());
+            }
+        }
+
+        return expiringIn(keywords, ttlMillis);
+    }
+
+    private List<String> getFromMemory(String key) {
+        synchronized (cache) {
+            CachedKeywords entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.keywords();
+        }
+    }
+
+    private void putToMemory(String key, CachedKeywords keywords) {
+        synchronized (cache) {
+            cache.put(key, keywords);
+        }
+    }
+
+    private static CachedKeywords expiringIn(List<String> keywords, long ttl) {
+        return new CachedKeywords(keywords, System.currentTimeMillis() + ttl);
+    }
+
+    private static String cacheKey(String jobGroup, String jobRole) {
+        return (jobGroup != null ? jobGroup : "") + "|" + (jobRole != null ? jobRole : "");
+    }
+
+    private static List<String> toList(JSONArray arr) {
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < arr.length(); i++) {
+            keywords.add(arr.getString(i));
+        }
+        return List.copyOf(keywords);
+    }
+
+    private record CachedKeywords(List<String> keywords, long expiresAt) {
+    }
+}
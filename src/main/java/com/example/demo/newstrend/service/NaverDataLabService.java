@@ -0,0 +1,166 @@
+package com.example.demo.newstrend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.demo.config.TokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 네이버 데이터랩 검색어 트렌드 수집
+ * - LLM 도구 호출(키워드 하나씩 순차 + block) 대신 코드에서 직접, 동시에 수집
+ * - 데이터랩은 요청 1건에 주제어(keywordGroups)를 최대 5개까지 받으므로 5개씩 묶어서 요청
+ * - 한 요청 안의 ratio는 "묶음 전체 최댓값 = 100" 기준이라, 키워드별 최댓값 = 100으로 다시 환산
+ *   → 키워드를 하나씩 요청하던 기존 결과와 같은 값 (묶음 구성에 따라 결과가 달라지지 않음)
+ * - 결과는 요청한 키워드 순서 그대로 반환
+ * - 저장/재사용은 TrendSeriesService 담당 (이 클래스는 원격 수집만)
+ */
+@Service
+@Slf4j
+public class NaverDataLabService {
+
+    private static final int MAX_GROUPS_PER_REQUEST = 5; // 데이터랩 keywordGroups 최대 개수
+
+    private final WebClient webClient;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final int concurrency;
+    private final Duration timeout;
+
+    @Value("${naver.api.client-id}")
+    private String naverClientId;
+
+    @Value("${naver.api.client-secret}")
+    private String naverClientSecret;
+
+    @Value("${naver.datalab.trend.url}")
+    private String naverTrendUrl;
+
+    public NaverDataLabService(
+            WebClient.Builder webClientBuilder,
+            @Value("${naver.datalab.qps:5}") double qps,
+            @Value("${naver.datalab.concurrency:2}") int concurrency,
+            @Value("${naver.datalab.timeout-ms:10000}") long timeoutMs) {
+        this.webClient = webClientBuilder
+                .defaultHeader("Accept", "application/json")
+                .build();
+        this.rateLimiter = new TokenBucketRateLimiter(qps, Math.max(1, concurrency));
+        this.concurrency = Math.max(1, concurrency);
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * 키워드별 일간 검색량(ratio) 수집
+     *
+     * @param keywords  검색 키워드 (중복은 한 번만 요청)
+     * @param startDate 시작일
+     * @param endDate   종료일
+     * @return 키워드 → 날짜순 일간 ratio (키워드별 최댓값 = 100, 요청 순서 유지)
+     *         수집에 실패한 키워드는 포함되지 않음
+     */
+    public Map<String, List<DailyRatio>> fetchDailyRatios(List<String> keywords, LocalDate startDate,
+            LocalDate endDate) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keywords));
+
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += MAX_GROUPS_PER_REQUEST) {
+            batches.add(distinct.subList(i, Math.min(i + MAX_GROUPS_PER_REQUEST, distinct.size())));
+        }
+
+        // flatMapSequential: 묶음별로 동시에 요청하되 결과는 묶음 순서대로
+        List<Map<String, List<DailyRatio>>> batchResults = Flux.fromIterable(batches)
+                .flatMapSequential(batch -> fetchBatch(batch, startDate, endDate), concurrency)
+                .collectList()
+                .block();
+
+        Map<String, List<DailyRatio>> ratios = new LinkedHashMap<>();
+        if (batchResults != null) {
+            batchResults.forEach(ratios::putAll);
+        }
+        return ratios;
+    }
+
+    // 키워드 최대 5개를 한 번에 요청 (실패하면 묶음 전체를 결과에서 제외)
+    private Mono<Map<String, List<DailyRatio>>> fetchBatch(List<String> batch, LocalDate startDate,
+            LocalDate endDate) {
+        List<Map<String, Object>> keywordGroups = batch.stream()
+                .map(keyword -> Map.<String, Object>of(
+                        "groupName", keyword, // 주제어 = 키워드 (응답의 title로 다시 매칭)
+                        "keywords", List.of(keyword)))
+                .toList();
+
+        // 요청 바디 생성(네이버 DataLab 규격)
+        Map<String, Object> requestBody = Map.of(
+                "startDate", startDate.toString(),
+                "endDate", endDate.toString(),
+                "timeUnit", "date", // 일간 단위
+                "keywordGroups", keywordGroups);
+
+        return rateLimiter.acquire()
+                .then(Mono.defer(() -> webClient.post()
+                        .uri(naverTrendUrl)
+                        .header("X-Naver-Client-Id", naverClientId)
+                        .header("X-Naver-Client-Secret", naverClientSecret)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)))
+                .timeout(timeout)
+                .map(response -> splitByKeyword(batch, response))
+                .doOnNext(result -> log.info("[API SUCCESS] 네이버 검색량 수집 완료 keywords={}, {} ~ {}",
+                        batch, startDate, endDate))
+                .onErrorResume(e -> {
+                    log.error("❌ 네이버 검색량 수집 실패: keywords={}, msg={}", batch, e.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    // 묶음 응답 → 키워드별 ratio (키워드별 최댓값 = 100으로 환산)
+    private Map<String, List<DailyRatio>> splitByKeyword(List<String> batch, JsonNode response) {
+        Map<String, JsonNode> resultsByTitle = new LinkedHashMap<>();
+        for (JsonNode result : response.path("results")) {
+            resultsByTitle.put(result.path("title").asText(), result);
+        }
+
+        Map<String, List<DailyRatio>> ratios = new LinkedHashMap<>();
+        for (String keyword : batch) {
+            JsonNode result = resultsByTitle.get(keyword);
+            ratios.put(keyword, result != null ? rescale(result.path("data")) : List.of());
+        }
+        return ratios;
+    }
+
+    private static List<DailyRatio> rescale(JsonNode data) {
+        double max = 0;
+        for (JsonNode point : data) {
+            max = Math.max(max, point.path("ratio").asDouble());
+        }
+
+        List<DailyRatio> points = new ArrayList<>();
+        for (JsonNode point : data) {
+            double ratio = max > 0 ? point.path("ratio").asDouble() * 100 / max : 0;
+            points.add(new DailyRatio(LocalDate.parse(point.path("period").asText()), ratio));
+        }
+        return points;
+    }
+
+    /**
+     * 일간 검색량
+     *
+     * @param period 날짜
+     * @param ratio  검색량 비율 (기준은 호출한 쪽에서 결정)
+     */
+    public record DailyRatio(LocalDate period, double ratio) {
+    }
+}
@@ -1,27 +1,32 @@
 package com.example.demo.newstrend.service;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.ai.newstrend.BiasNeutralizationAgent;
 import com.example.demo.ai.newstrend.KeywordExtractionAgent;
 import com.example.demo.ai.newstrend.NewsAnalysisAgent;
+import com.example.demo.config.AiCallThrottle;
 import com.example.demo.newstrend.dto.request.NewsAnalysisRequest;
 import com.example.demo.newstrend.dto.response.NewsAnalysisResult;
 import com.example.demo.newstrend.dto.response.NewsKeywordResponse;
 import com.example.demo.newstrend.dto.response.NewsSummaryResponse;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * AI 통합 서비스
- * - AI Agent들을 순서대로 실행하여 뉴스 분석
+ * - 원문 수집(NewsContentFetcher) → 분석 → [키워드 추출 ∥ 중립화] 단계로 뉴스 분석
+ * - 키워드 추출과 중립화는 요약이 나온 뒤 동시에 실행 → 전체 시간 = 두 호출 중 긴 쪽
+ * - 각 AI 호출은 AiCallThrottle로 모델별 동시성/속도 제한
  * - 기사 원문 저장, 요약문 저장까지 담당
  * - 흐름: Controller → Service (AI Agent로 데이터 가공) → 저장 → DB
  */
@@ -39,14 +44,22 @@ public class NewsAIService {
     @Autowired
     private BiasNeutralizationAgent neutralizationAgent;
 
+    @Autowired
+    private NewsContentFetcher newsContentFetcher; // 원문 HTML 수집 단계
+
+    @Autowired
+    private AiCallThrottle aiCallThrottle; // LLM 동시성/속도 제한
+
+    // 키워드 추출 / 중립화 동시 실행용 (대기 시간이 대부분이라 가상 스레드)
+    private final ExecutorService agentExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     /**
      * 뉴스 분석  (AI Agent 활용)
      * @param request 뉴스 분석 요청 (제목, 본문, URL 등)
      * @return 분석된 뉴스 응답 (요약, 감정, 신뢰도, 키워드 등)
      * @throws Exception AI 호출 실패 또는 JSON 변환 실패 시
      */
-   @Transactional
-// 트랜잭션 범위 내에서 실행 → DB 저장이 포함될 경우 롤백 가능
+    // 트랜잭션 없음: DB 작업이 없으므로 AI 호출 동안 커넥션을 잡지 않음
     public NewsAnalysisResult analyzeNews(NewsAnalysisRequest request) throws Exception {
         log.info("뉴스 분석 및 저장 시작 - 제목: {}", request.getTitle());
         // 분석 시작 로그, 어떤 뉴스인지 확인용
@@ -60,34 +73,48 @@ public class NewsAIService {
             log.info("짧은 content 감지, 웹 스크래핑 시도: {}", request.getSourceUrl());
             // 스크래핑 시도 로그
 
-            String scrapedContent = extractNewsContent(request.getSourceUrl());
-            // extractNewsContent 메서드로 실제 기사 본문 가져오기
+            String scrapedContent = newsContentFetcher.fetchContent(request.getSourceUrl()).block();
+            // 스크래핑 전용 커넥션 풀(호스트별 연결 수 제한)에서 기사 본문 가져오기
 
-            if (scrapedContent != null && scrapedContent.length() > fullContent.length()) {
+            if (scrapedContent != null
+                    && (fullContent == null || scrapedContent.length() > fullContent.length())) {
                 fullContent = scrapedContent;
                 // 가져온 본문이 기존보다 길면 fullContent를 업데이트
             }
         }
 
         // 2. AI Agent: 뉴스 분석 (요약, 감정, 신뢰도, 편향, 카테고리)
-        NewsSummaryResponse analysis = analysisAgent.analyzeNews(request.getTitle(), fullContent);
+        String content = fullContent;
+        NewsSummaryResponse analysis = aiCallThrottle.call(
+                () -> analysisAgent.analyzeNews(request.getTitle(), content));
         // 분석Agent 호출 → 제목+본문으로 AI 분석 → 요약, 감정, 편향, 신뢰도, 카테고리 반환
 
-        // 3. AI Agent: 키워드 추출
-        List<NewsKeywordResponse> keywords = keywordAgent.extractKeywords(analysis.getSummary());
-        // 분석된 요약(summary)에서 키워드 추출
-
-        // 4. AI Agent: 편향 감지시 중립화
-        String finalSummary = analysis.getSummary();
-        // 기본 finalSummary는 AI가 분석한 요약(summary)
+        // 3. AI Agent: 키워드 추출 (요약에서 추출, 중립화와 동시 실행)
+        CompletableFuture<List<NewsKeywordResponse>> keywordsFuture = CompletableFuture.supplyAsync(
+                () -> callAgent(() -> keywordAgent.extractKeywords(analysis.getSummary())),
+                agentExecutor);
 
+        // 4. AI Agent: 편향 감지시 중립화 (원문 기준이라 키워드 추출 결과를 기다릴 필요 없음)
+        CompletableFuture<String> finalSummaryFuture;
         if (Boolean.TRUE.equals(analysis.getBiasDetected())) {
             // biasDetected가 true이면 편향 감지됨
-            finalSummary = neutralizationAgent.neutralizeText(fullContent);
-            // 중립화 처리 후 finalSummary 업데이트
+            finalSummaryFuture = CompletableFuture.supplyAsync(
+                    () -> callAgent(() -> neutralizationAgent.neutralizeText(content)),
+                    agentExecutor);
         } else {
             log.debug("편향 미감지 - 중립화 스킵");
-            // 편향이 없으면 중립화 건너뜀
+            // 편향이 없으면 AI가 분석한 요약(summary)을 그대로 사용
+            finalSummaryFuture = CompletableFuture.completedFuture(analysis.getSummary());
+        }
+
+        List<NewsKeywordResponse> keywords;
+        String finalSummary;
+        try {
+            keywords = keywordsFuture.join();
+            finalSummary = finalSummaryFuture.join();
+        } catch (CompletionException e) {
+            // 워커에서 난 예외를 원래 예외로 풀어서 던짐
+            throw (e.getCause() instanceof Exception cause) ? cause : e;
         }
 
         // 5. 분석 결과 반환 (저장 안함)
@@ -104,61 +131,20 @@ public class NewsAIService {
             // NewsAnalysisResult 객체 생성 및 반환
     }
 
-    /**
-     * 웹 스크래핑: 뉴스 본문 추출
-     * - 짧은 본문이 들어왔을 때 원문을 가져오기 위해 사용
-     * - User-Agent 설정으로 정상적인 HTML 반환 유도
-     * @param url 뉴스 URL
-     * @return 추출된 본문 (실패시 null)
-     */
-    private String extractNewsContent(String url) {
-        log.info("웹 스크래핑 시작 - URL: {}", url);
-        
+    // AiCallThrottle 경유 호출 (CompletableFuture 안에서 쓰도록 checked 예외 포장)
+    private <T> T callAgent(Callable<T> task) {
         try {
-            // SSL 인증서 검증 우회
-            com.example.demo.config.SSLHelper.disableSSLVerification();
-            
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .timeout(10000)
-                    .ignoreHttpErrors(true) // HTTP 에러 무시
-                    .followRedirects(true)  // 리다이렉트 따라가기
-                    .get();
-
-            StringBuilder content = new StringBuilder();
-            
-            // 본문 추출 시도 1: article 태그
-            Element articleBody = doc.selectFirst("article, .article-body, .news-body, .content, main");
-            if (articleBody != null && !articleBody.text().isEmpty()) {
-                content.append(articleBody.text());
-            } else {
-                // 본문 추출 시도 2: p 태그들
-                for (Element p : doc.select("p")) {
-                    String text = p.text();
-                    if (text.length() > 50) { // 짧은 문장 제외
-                        content.append(text).append(" ");
-                    }
-                }
-            }
-
-            String result = content.toString().trim();
-            
-            if (result.length() < 100) {
-                log.warn("스크래핑된 내용이 너무 짧음 ({}자) - URL: {}", result.length(), url);
-                return null;
-            }
-            
-            if (result.length() > 5000) {
-                result = result.substring(0, 5000);
-            }
-            
-            log.info("웹 스크래핑 성공 - URL: {}, 내용 길이: {}", url, result.length());
-            return result;
-            
+            return aiCallThrottle.call(task);
+        } catch (RuntimeException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("웹 스크래핑 오류 - URL: {}, 오류: {}", url, e.getMessage());
-            return null;
+            throw new CompletionException(e);
         }
     }
 
-}
\ No newline at end of file
+    @PreDestroy
+    void shutdownAgentExecutor() {
+        agentExecutor.shutdown();
+    }
+
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -12,12 +13,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.example.demo.config.TokenBucketRateLimiter;
 import com.example.demo.member.dao.MemberDao;
 import com.example.demo.member.entity.Member;
-import com.example.demo.newstrend.dao.NewsSummaryDao;
 import com.example.demo.newstrend.dto.request.NewsAnalysisRequest;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * 직군별 특화 뉴스 수집 서비스
@@ -30,11 +33,14 @@ public class NewsCollectorService {
 
     private WebClient webClient;
 
-    @Autowired
-    private MemberDao memberDao;
+    // 네이버 검색 API QPS 제한 (고정 sleep 대신 토큰 버킷으로 제어)
+    private final TokenBucketRateLimiter naverRateLimiter;
+
+    // 키워드 동시 검색 개수
+    private final int fetchConcurrency;
 
     @Autowired
-    private NewsSummaryDao newsSummaryDao;
+    private MemberDao memberDao;
 
     @Value("${naver.api.client-id}")
     private String clientId;
@@ -42,11 +48,16 @@ public class NewsCollectorService {
     @Value("${naver.api.client-secret}")
     private String clientSecret;
 
-    public NewsCollectorService(WebClient.Builder webClientBuilder, NewsSummaryService newsSummaryService) {
+    public NewsCollectorService(
+            WebClient.Builder webClientBuilder,
+            @Value("${naver.api.search.qps:10}") double naverQps,
+            @Value("${naver.api.search.burst:5}") int naverBurst,
+            @Value("${naver.api.search.concurrency:4}") int fetchConcurrency) {
         this.webClient = webClientBuilder
                 .baseUrl("https://openapi.naver.com/v1/search")
                 .build();
-
+        this.naverRateLimiter = new TokenBucketRateLimiter(naverQps, naverBurst);
+        this.fetchConcurrency = Math.max(1, fetchConcurrency);
     }
 
     public String getNaverNews(String keyword) {
@@ -54,29 +65,41 @@ public class NewsCollectorService {
     }
 
     public String getNaverNews(String keyword, int display) {
-        log.info("네이버 뉴스 검색 - 키워드: {}, display: {}", keyword, display);
-
-        String result = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/news.json")
-                        .queryParam("query", keyword)
-                        .queryParam("display", Math.min(display, 100))
-                        .queryParam("sort", "date")
-                        .build())
-                .header("X-Naver-Client-Id", clientId)
-                .header("X-Naver-Client-Secret", clientSecret)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-        log.debug("네이버 뉴스 검색 완료 - 응답 길이: {} bytes",
-                result != null ? result.length() : 0);
+        return fetchNaverNews(keyword, display).block();
+    }
 
-        return result;
+    /**
+     * 네이버 뉴스 검색 (논블로킹)
+     * - 호출 전에 토큰 버킷에서 토큰을 받아 QPS 한도를 지킴
+     *
+     * @param keyword 검색 키워드
+     * @param display 가져올 기사 수 (최대 100)
+     * @return 네이버 API JSON 응답
+     */
+    public Mono<String> fetchNaverNews(String keyword, int display) {
+        return naverRateLimiter.acquire()
+                .then(Mono.defer(() -> {
+                    log.info("네이버 뉴스 검색 - 키워드: {}, display: {}", keyword, display);
+
+                    return webClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path("/news.json")
+                                    .queryParam("query", keyword)
+                                    .queryParam("display", Math.min(display, 100))
+                                    .queryParam("sort", "date")
+                                    .build())
+                            .header("X-Naver-Client-Id", clientId)
+                            .header("X-Naver-Client-Secret", clientSecret)
+                            .retrieve()
+                            .bodyToMono(String.class);
+                }))
+                .doOnNext(result -> log.debug("네이버 뉴스 검색 완료 - 키워드: {}, 응답 길이: {} bytes",
+                        keyword, result.length()));
     }
 
     /**
      * 검색 키워드 기반 뉴스 수집 (순수 수집만 담당)
+     * - 이미 DB에 있는 기사도 그대로 반환 (공유 기사 재사용 여부는 TotalNewsService에서 판단)
      * 
      * @param keywords 검색 키워드 목록
      * @param memberId 회원 ID (null이면 1로 설정)
@@ -88,9 +111,8 @@ public class NewsCollectorService {
         List<NewsAnalysisRequest> allNews = new ArrayList<>();
         Set<String> urls = new HashSet<>();
         int successCount = 0;
-        int errorCount = 0;
+        AtomicInteger errorCount = new AtomicInteger(); // 키워드 검색은 병렬로 실행되므로 Atomic
         int sessionDuplicateCount = 0; // ✅ 이번 수집에서 중복
-        int dbDuplicateCount = 0; // ✅ DB에 이미 있음
 
         Member member = memberDao.findById(memberId);
         if (member == null) {
@@ -100,51 +122,46 @@ public class NewsCollectorService {
         // ✅ 키워드당 가져올 개수 계산
         int perKeyword = Math.max(1, limit / keywords.size());
 
-        for (String keyword : keywords) {
+        // ✅ 키워드별 검색을 동시에 실행 (동시 실행 수 제한 + QPS 제한)
+        // flatMapSequential: 병렬로 받아오되 결과는 키워드 순서대로 정렬
+        List<List<NewsAnalysisRequest>> newsByKeyword = Flux.fromIterable(keywords)
+                .flatMapSequential(keyword -> fetchNaverNews(keyword.trim(), perKeyword)
+                        .map(this::parseNaverNews)
+                        .onErrorResume(e -> {
+                            log.error("뉴스 수집 오류 - 키워드: {}", keyword, e);
+                            errorCount.incrementAndGet();
+                            return Mono.just(List.of());
+                        }),
+                        fetchConcurrency)
+                .collectList()
+                .block();
+
+        // ✅ 키워드 순서대로 병합 (이번 수집 내 URL 중복 제거)
+        List<NewsAnalysisRequest> candidates = new ArrayList<>();
+        for (List<NewsAnalysisRequest> news : newsByKeyword) {
+            for (NewsAnalysisRequest newsItem : news) {
+                if (!urls.add(newsItem.getSourceUrl())) {
+                    sessionDuplicateCount++;
+                    continue;
+                }
+                candidates.add(newsItem);
+            }
+        }
+
+        for (NewsAnalysisRequest newsItem : candidates) {
             // ✅ 이미 limit 도달하면 중단
             if (allNews.size() >= limit) {
                 log.info("수집 limit 도달 - {}건 수집 완료", allNews.size());
                 break;
             }
 
-            try {
-                String naverResponse = getNaverNews(keyword.trim(), perKeyword);
-                List<NewsAnalysisRequest> news = parseNaverNews(naverResponse);
-
-                for (NewsAnalysisRequest newsItem : news) {
-                    // ✅ limit 체크
-                    if (allNews.size() >= limit) {
-                        break;
-                    }
-
-                    String url = newsItem.getSourceUrl();
-
-                    if (urls.contains(url)) {
-                        sessionDuplicateCount++;
-                        continue;
-                    }
-
-                    if (newsSummaryDao.selectNewsSummaryBySourceUrl(url) != null) {
-                        dbDuplicateCount++;
-                        log.debug("DB 중복 제외: {}", newsItem.getTitle());
-                        continue;
-                    }
-
-                    newsItem.setMemberId(memberId != null ? memberId : 1);
-                    allNews.add(newsItem);
-                    urls.add(url);
-                    successCount++;
-                }
-
-                Thread.sleep(500);
-
-            } catch (Exception e) {
-                log.error("뉴스 수집 오류 - 키워드: {}", keyword, e);
-                errorCount++;
-            }
+            newsItem.setMemberId(memberId != null ? memberId : 1);
+            allNews.add(newsItem);
+            successCount++;
         }
 
-        log.info("뉴스 수집 완료 - 성공: {}건, 오류: {}건", successCount, errorCount);
+        log.info("뉴스 수집 완료 - 성공: {}건, 오류: {}건, 세션 중복: {}건",
+                successCount, errorCount.get(), sessionDuplicateCount);
 
         return allNews;
     }
@@ -222,9 +239,6 @@ public class NewsCollectorService {
                     }
                 }
 
-                Thread.sleep(500);
-                // API 호출 과다 방지를 위한 딜레이(0.5초)
-
             } catch (Exception e) {
                 log.warn("키워드 '{}' 검색 실패", keyword, e);
                 // API 오류, JSON 오류 등 문제 발생 시 경고 로그 출력
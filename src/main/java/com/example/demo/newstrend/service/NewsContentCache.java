@@ -0,0 +1,249 @@
+package com.example.demo.newstrend.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 스크래핑한 뉴스 본문 캐시
+ * - 키: 정규화한 URL (스킴/호스트 소문자, fragment·utm_* 파라미터 제거)
+ * - 값: 추출된 본문 + ETag/Last-Modified (만료 후 조건부 요청으로 재검증)
+ * - 1차: 메모리 LRU (최대 maxEntries개)
+ * - 2차: gzip 압축 파일 (선택, diskDir가 비어 있으면 사용 안 함) → 서버 재시작 후에도 재사용
+ * - freshMinutes 안의 적중은 네트워크 요청 없이 바로 반환
+ */
+@Component
+@Slf4j
+public class NewsContentCache {
+
+    private final long freshMillis;
+    private final Path diskDir; // null이면 디스크 캐시 사용 안 함
+
+    // 메모리 LRU (accessOrder = true)
+    private final Map<String, CachedContent> cache;
+
+    public NewsContentCache(
+            @Value("${news.scrape.cache.max-entries:1000}") int maxEntries,
+            @Value("${news.scrape.cache.fresh-minutes:1440}") long freshMinutes,
+            @Value("${news.scrape.cache.disk-dir:}") String diskDir) {
+        this.freshMillis = TimeUnit.MINUTES.toMillis(freshMinutes);
+        this.diskDir = initDiskDir(diskDir);
+
+        int capacity = Math.max(1, maxEntries);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedContent> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (메모리 → 디스크)
+     * - 디스크 읽기가 있으므로 이벤트 루프가 아닌 호출 스레드에서 사용
+     *
+     * @param key normalizeUrl로 정규화한 URL
+     * @return 캐시된 본문 (없으면 null, 만료 여부는 isFresh로 확인)
+     */
+    public CachedContent get(String key) {
+        synchronized (cache) {
+            CachedContent cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        CachedContent fromDisk = readFromDisk(key);
+        if (fromDisk != null) {
+            synchronized (cache) {
+                cache.put(key, fromDisk);
+            }
+        }
+        return fromDisk;
+    }
+
+    /**
+     * 캐시 저장 (디스크 쓰기는 별도 스레드에서 비동기로)
+     */
+    public void put(String key, CachedContent content) {
+        synchronized (cache) {
+            cache.put(key, content);
+        }
+        if (diskDir != null) {
+            Schedulers.boundedElastic().schedule(() -> writeToDisk(key, content));
+        }
+    }
+
+    /**
+     * 네트워크 요청 없이 그대로 써도 되는지 (fetchedAt 기준 freshMinutes 이내)
+     */
+    public boolean isFresh(CachedContent content) {
+        return System.currentTimeMillis() - content.fetchedAt() < freshMillis;
+    }
+
+    /**
+     * 캐시 키용 URL 정규화
+     * - 같은 기사가 추적 파라미터/대소문자/fragment 차이로 따로 저장되지 않도록
+     *
+     * @param url 원본 URL
+     * @return 정규화된 URL (파싱 불가하면 앞뒤 공백만 제거한 원본)
+     */
+    public static String normalizeUrl(String url) {
+        String trimmed = url.trim();
+        try {
+            URI uri = new URI(trimmed);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return trimmed;
+            }
+
+            String scheme = uri.getScheme().toLowerCase();
+            String host = uri.getHost().toLowerCase();
+            int port = uri.getPort();
+            // 기본 포트는 생략
+            if ((scheme.equals("http") && port == 80) || (scheme.equals("https") && port == 443)) {
+                port = -1;
+            }
+
+            String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+
+            // utm_* 추적 파라미터 제거 (나머지 파라미터 순서는 유지: 기사 ID가 파라미터인 언론사 존재)
+            List<String> params = new ArrayList<>();
+            if (uri.getRawQuery() != null) {
+                for (String param : uri.getRawQuery().split("&")) {
+                    if (!param.isEmpty() && !param.toLowerCase().startsWith("utm_")) {
+                        params.add(param);
+                    }
+                }
+            }
+
+            StringBuilder normalized = new StringBuilder()
+                    .append(scheme).append("://").append(host);
+            if (port != -1) {
+                normalized.append(':').append(port);
+            }
+            normalized.append(path);
+            if (!params.isEmpty()) {
+                normalized.append('?').append(String.join("&", params));
+            }
+            return normalized.toString();
+
+        } catch (Exception e) {
+            return trimmed;
+        }
+    }
+
+    private Path initDiskDir(String dir) {
+        if (dir == null || dir.isBlank()) {
+            return null;
+        }
+        try {
+            Path path = Paths.get(dir);
+            Files.createDirectories(path);
+            log.info("뉴스 본문 디스크 캐시 사용 - 경로: {}", path.toAbsolutePath());
+            return path;
+        } catch (IOException e) {
+            log.warn("뉴스 본문 디스크 캐시 경로 생성 실패 - 메모리 캐시만 사용: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private CachedContent readFromDisk(String key) {
+        if (diskDir == null) {
+            return null;
+        }
+
+        Path file = diskFile(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(file)))) {
+            // 파일명 해시 충돌 대비 키 비교
+            if (!key.equals(in.readUTF())) {
+                return null;
+            }
+            String etag = emptyToNull(in.readUTF());
+            String lastModified = emptyToNull(in.readUTF());
+            long fetchedAt = in.readLong();
+            String content = in.readUTF();
+            return new CachedContent(content, etag, lastModified, fetchedAt);
+        } catch (IOException e) {
+            log.warn("뉴스 본문 디스크 캐시 읽기 실패 - {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, CachedContent content) {
+        Path file = diskFile(key);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeUTF(key);
+            out.writeUTF(content.etag() != null ? content.etag() : "");
+            out.writeUTF(content.lastModified() != null ? content.lastModified() : "");
+            out.writeLong(content.fetchedAt());
+            out.writeUTF(content.content());
+        } catch (IOException e) {
+            log.warn("뉴스 본문 디스크 캐시 쓰기 실패 - {}: {}", file, e.getMessage());
+            return;
+        }
+
+        try {
+            // 다 쓴 뒤 교체 → 읽는 쪽에서 반쯤 쓴 파일을 보지 않음
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("뉴스 본문 디스크 캐시 교체 실패 - {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path diskFile(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return diskDir.resolve(HexFormat.of().formatHex(hash) + ".gz");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param content      추출된 본문
+     * @param etag         응답 ETag (없으면 null)
+     * @param lastModified 응답 Last-Modified (없으면 null)
+     * @param fetchedAt    마지막으로 원문 서버에서 확인한 시각 (epoch millis)
+     */
+    public record CachedContent(String content, String etag, String lastModified, long fetchedAt) {
+
+        // 304 Not Modified → 본문은 그대로, 확인 시각만 갱신
+        public CachedContent revalidated() {
+            return new CachedContent(content, etag, lastModified, System.currentTimeMillis());
+        }
+    }
+}
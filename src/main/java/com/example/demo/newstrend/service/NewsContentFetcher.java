@@ -0,0 +1,193 @@
+package com.example.demo.newstrend.service;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.time.Duration;
+
+import javax.net.ssl.SSLException;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.demo.newstrend.service.NewsContentCache.CachedContent;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 뉴스 원문 HTML 수집 단계 (웹 스크래핑)
+ * - Jsoup 블로킹 호출 대신 전용 커넥션 풀을 쓰는 논블로킹 WebClient로 가져옴
+ * - 커넥션 풀은 호스트(언론사)별로 만들어지므로 maxConnections = 호스트당 동시 연결 수
+ *   → 같은 언론사 기사가 몰려도 한 사이트에 연결이 쏠리지 않음
+ * - 응답 본문은 최대 maxBodyBytes까지만 메모리에 올림 (초과 시 스크래핑 실패 처리)
+ * - 추출한 본문은 NewsContentCache에 보관 → 같은 URL은 재분석/다른 회원 요청에도 다시 스크래핑하지 않음
+ */
+@Component
+@Slf4j
+public class NewsContentFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    private static final int MIN_CONTENT_LENGTH = 100; // 이보다 짧으면 본문 추출 실패로 봄
+    private static final int MAX_CONTENT_LENGTH = 5000; // AI 분석에 넘길 최대 길이
+
+    private final WebClient webClient;
+    private final Duration timeout;
+    private final NewsContentCache contentCache;
+
+    public NewsContentFetcher(
+            WebClient.Builder webClientBuilder,
+            NewsContentCache contentCache,
+            @Value("${news.scrape.per-host-connections:2}") int perHostConnections,
+            @Value("${news.scrape.max-body-bytes:2097152}") int maxBodyBytes,
+            @Value("${news.scrape.timeout-ms:10000}") long timeoutMs) throws SSLException {
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.contentCache = contentCache;
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("news-scrape")
+                .maxConnections(Math.max(1, perHostConnections))
+                .pendingAcquireTimeout(timeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        // 기존 스크래핑과 동일하게 SSL 인증서 검증 우회 (SSLHelper 참고)
+        SslContext sslContext = SslContextBuilder.forClient()
+                .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .followRedirect(true)
+                .responseTimeout(timeout)
+                .secure(spec -> spec.sslContext(sslContext));
+
+        this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(codecs -> codecs.defaultCodec().maxInMemorySize(maxBodyBytes))
+                        .build())
+                .defaultHeader(HttpHeaders.USER_AGENT, USER_AGENT)
+                .build();
+    }
+
+    /**
+     * 뉴스 본문 추출 (논블로킹)
+     * - 캐시가 유효하면 네트워크 요청 없이 반환
+     * - 캐시가 만료됐으면 ETag/Last-Modified로 조건부 요청 → 304면 캐시 본문 재사용
+     * - 캐시 조회(디스크 포함)는 호출 스레드에서 수행
+     *
+     * @param url 뉴스 URL
+     * @return 추출된 본문 (실패하거나 너무 짧으면 empty)
+     */
+    public Mono<String> fetchContent(String url) {
+        if (url == null || url.isBlank()) {
+            return Mono.empty();
+        }
+
+        String cacheKey = NewsContentCache.normalizeUrl(url);
+        CachedContent cached = contentCache.get(cacheKey);
+        if (cached != null && contentCache.isFresh(cached)) {
+            log.debug("스크래핑 캐시 적중 - URL: {}", url);
+            return Mono.just(cached.content());
+        }
+
+        log.info("웹 스크래핑 시작 - URL: {}, 재검증: {}", url, cached != null);
+
+        // HTTP 에러 응답도 본문은 파싱 시도 (기존 ignoreHttpErrors 동작 유지)
+        return webClient.get()
+                .uri(url)
+                .headers(headers -> {
+                    if (cached != null && cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                    if (cached != null && cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    // 변경 없음 → 캐시 본문 그대로 사용
+                    if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        log.debug("원문 변경 없음(304) - URL: {}", url);
+                        contentCache.put(cacheKey, cached.revalidated());
+                        return response.releaseBody().then(Mono.just(cached.content()));
+                    }
+
+                    HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+                    Charset charset = response.headers().contentType()
+                            .map(MediaType::getCharset)
+                            .orElse(null);
+                    return response.bodyToMono(byte[].class)
+                            .flatMap(body -> Mono.justOrEmpty(extractContent(body, charset, url)))
+                            .doOnNext(content -> contentCache.put(cacheKey, new CachedContent(
+                                    content,
+                                    responseHeaders.getETag(),
+                                    responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED),
+                                    System.currentTimeMillis())));
+                })
+                .timeout(timeout)
+                .doOnNext(content -> log.info("웹 스크래핑 성공 - URL: {}, 내용 길이: {}", url, content.length()))
+                .onErrorResume(e -> {
+                    log.error("웹 스크래핑 오류 - URL: {}, 오류: {}", url, e.getMessage());
+                    // 재검증 실패 시 만료된 캐시라도 사용
+                    return cached != null ? Mono.just(cached.content()) : Mono.empty();
+                });
+    }
+
+    /**
+     * HTML에서 본문 추출
+     * - charset은 응답 헤더 → HTML meta 순으로 판단 (EUC-KR 언론사 대응)
+     *
+     * @return 추출된 본문 (너무 짧으면 null)
+     */
+    private String extractContent(byte[] body, Charset charset, String url) {
+        Document doc;
+        try {
+            doc = Jsoup.parse(new ByteArrayInputStream(body), charset != null ? charset.name() : null, url);
+        } catch (Exception e) {
+            log.error("HTML 파싱 오류 - URL: {}, 오류: {}", url, e.getMessage());
+            return null;
+        }
+
+        StringBuilder content = new StringBuilder();
+
+        // 본문 추출 시도 1: article 태그
+        Element articleBody = doc.selectFirst("article, .article-body, .news-body, .content, main");
+        if (articleBody != null && !articleBody.text().isEmpty()) {
+            content.append(articleBody.text());
+        } else {
+            // 본문 추출 시도 2: p 태그들
+            for (Element p : doc.select("p")) {
+                String text = p.text();
+                if (text.length() > 50) { // 짧은 문장 제외
+                    content.append(text).append(" ");
+                }
+            }
+        }
+
+        String result = content.toString().trim();
+
+        if (result.length() < MIN_CONTENT_LENGTH) {
+            log.warn("스크래핑된 내용이 너무 짧음 ({}자) - URL: {}", result.length(), url);
+            return null;
+        }
+
+        if (result.length() > MAX_CONTENT_LENGTH) {
+            result = result.substring(0, MAX_CONTENT_LENGTH);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.newstrend.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.newstrend.dto.response.NewsAnalysisResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수집 작업 진행 이벤트 전달 (서버 내)
+ * - SSE 피드 스트림이 회원 단위로 구독 → NewsIngestWorker가 처리하는 작업의 진행/기사/완료 이벤트를 받음
+ * - 다른 서버가 작업을 처리하면 이벤트는 오지 않음 → 스트림은 작업 상태 폴링으로 완료를 확인
+ */
+@Component
+@Slf4j
+public class NewsIngestEvents {
+
+    // 회원 ID → 구독 중인 스트림 리스너
+    private final Map<Integer, Set<NewsIngestListener>> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * 회원의 수집 이벤트 구독
+     *
+     * @return 구독 해제 (스트림 종료/취소 시 호출)
+     */
+    public Runnable subscribe(int memberId, NewsIngestListener listener) {
+        listeners.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet()).add(listener);
+        return () -> listeners.computeIfPresent(memberId, (id, set) -> {
+            set.remove(listener);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 여러 회원에게 한 번에 전달하는 리스너 (같은 키워드로 묶어 처리하는 작업용)
+     */
+    public NewsIngestListener listenerFor(List<Integer> memberIds) {
+        return new NewsIngestListener() {
+            @Override
+            public void onProgress(String stage, int count) {
+                publish(memberIds, l -> l.onProgress(stage, count));
+            }
+
+            @Override
+            public void onNews(NewsAnalysisResponse news) {
+                publish(memberIds, l -> l.onNews(news));
+            }
+
+            @Override
+            public void onDone(int analyzed) {
+                publish(memberIds, l -> l.onDone(analyzed));
+            }
+
+            @Override
+            public void onFailed(String message) {
+                publish(memberIds, l -> l.onFailed(message));
+            }
+        };
+    }
+
+    // 구독자 한 명의 오류가 다른 구독자/수집 작업에 영향 주지 않도록 격리
+    private void publish(List<Integer> memberIds, Consumer<NewsIngestListener> event) {
+        for (Integer memberId : memberIds) {
+            Set<NewsIngestListener> subscribers = listeners.get(memberId);
+            if (subscribers == null) {
+                continue;
+            }
+            for (NewsIngestListener listener : subscribers) {
+                try {
+                    event.accept(listener);
+                } catch (RuntimeException e) {
+                    log.warn("수집 이벤트 전달 실패 - memberId: {}", memberId, e);
+                }
+            }
+        }
+    }
+}
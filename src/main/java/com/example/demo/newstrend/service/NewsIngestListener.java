@@ -0,0 +1,42 @@
+package com.example.demo.newstrend.service;
+
+import com.example.demo.newstrend.dto.response.NewsAnalysisResponse;
+
+/**
+ * 뉴스 수집 파이프라인 진행 상황 콜백
+ * - SSE 피드 스트리밍에서 단계별 진행률과 피드에 추가된 기사를 바로 내보낼 때 사용
+ * - 여러 분석 워커 스레드에서 동시에 호출될 수 있음
+ */
+public interface NewsIngestListener {
+
+    // 아무것도 하지 않는 기본 리스너 (백그라운드 수집용)
+    NewsIngestListener NONE = new NewsIngestListener() {
+    };
+
+    /**
+     * 단계 진행 알림
+     *
+     * @param stage 단계 (collected / reused / scored)
+     * @param count 해당 단계 처리 건수
+     */
+    default void onProgress(String stage, int count) {
+    }
+
+    /**
+     * 기사 1건 피드 추가 알림 (새로 분석/저장한 기사 + 재사용으로 연결한 기존 기사)
+     */
+    default void onNews(NewsAnalysisResponse news) {
+    }
+
+    /**
+     * 수집 작업 완료 (NewsIngestWorker가 작업 완료 기록 후 호출)
+     */
+    default void onDone(int analyzed) {
+    }
+
+    /**
+     * 수집 작업 실패
+     */
+    default void onFailed(String message) {
+    }
+}
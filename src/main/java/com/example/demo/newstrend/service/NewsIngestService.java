@@ -0,0 +1,81 @@
+package com.example.demo.newstrend.service;
+
+import org.springframework.stereotype.Service;
+
+import com.example.demo.member.dao.MemberDao;
+import com.example.demo.member.entity.Member;
+import com.example.demo.newstrend.dao.NewsIngestJobDao;
+import com.example.demo.newstrend.entity.NewsIngestJob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 뉴스 수집 작업 큐 서비스
+ * - 피드 요청에서는 작업 등록만 하고 바로 반환 (수집/분석은 NewsIngestWorker가 처리)
+ * - 작업 상태 조회 (프론트 폴링용)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NewsIngestService {
+
+    private final NewsIngestJobDao newsIngestJobDao;
+    private final MemberDao memberDao;
+
+    /**
+     * 수집 작업 등록
+     * - 진행 중인 작업이 있거나 오늘 이미 완료했으면 새로 등록하지 않음
+     * 
+     * @param memberId 회원 ID
+     * @param limit    수집 개수
+     * @return 회원의 현재(최근) 작업
+     */
+    public NewsIngestJob requestIngest(int memberId, int limit) {
+        return requestIngest(memberId, limit, false);
+    }
+
+    /**
+     * 수집 작업 등록
+     * 
+     * @param force true면 오늘 이미 완료했어도 등록, 대기/실행 중인 작업은 새 직군으로 대체 (직군/직무 변경으로 기존 뉴스 연결을 지운 경우)
+     */
+    public NewsIngestJob requestIngest(int memberId, int limit, boolean force) {
+        Member member = memberDao.findById(memberId);
+
+        NewsIngestJob job = new NewsIngestJob();
+        job.setMemberId(memberId);
+        job.setJobGroup(member != null ? member.getJobGroup() : null);
+        job.setFetchLimit(limit);
+
+        int inserted = newsIngestJobDao.insertJobIfAbsent(job, force);
+        if (inserted > 0) {
+            log.info("뉴스 수집 작업 등록 - jobId: {}, memberId: {}, 직군: {}", job.getJobId(), memberId, job.getJobGroup());
+        } else if (force) {
+            if (newsIngestJobDao.updatePendingJobGroup(memberId, job.getJobGroup()) > 0) {
+                // 이미 대기 중인 작업이 있으면 새 직군으로 묶이도록 직군만 갱신
+                log.info("대기 중인 수집 작업 직군 갱신 - memberId: {}, 직군: {}", memberId, job.getJobGroup());
+            } else if (newsIngestJobDao.supersedeRunningJob(memberId, job.getJobGroup()) > 0) {
+                // 옛 직군으로 실행 중 → 결과는 연결하지 않고, 끝나면 워커가 새 직군 작업으로 다시 대기시킴
+                log.info("실행 중인 수집 작업 대체 예약 - memberId: {}, 직군: {}", memberId, job.getJobGroup());
+            } else if (newsIngestJobDao.insertJobIfAbsent(job, true) > 0) {
+                // 그 사이 실행 중이던 작업이 끝남 → 다시 등록
+                log.info("뉴스 수집 작업 등록 - jobId: {}, memberId: {}, 직군: {}", job.getJobId(), memberId, job.getJobGroup());
+            }
+        } else {
+            log.debug("진행 중이거나 오늘 완료된 수집 작업 존재 - memberId: {}", memberId);
+        }
+
+        return newsIngestJobDao.selectLatestJobByMemberId(memberId);
+    }
+
+    // 작업 상태 조회
+    public NewsIngestJob getJob(int jobId) {
+        return newsIngestJobDao.selectJobById(jobId);
+    }
+
+    // 회원의 최근 작업 조회
+    public NewsIngestJob getLatestJob(int memberId) {
+        return newsIngestJobDao.selectLatestJobByMemberId(memberId);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.newstrend.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.newstrend.dao.NewsIngestJobDao;
+import com.example.demo.newstrend.entity.NewsIngestJob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 뉴스 수집 백그라운드 워커
+ * - news_ingest_job 큐를 주기적으로 확인해서 대기 작업 처리
+ * - 같은 직군 작업을 한 번에 점유 (SKIP LOCKED → 서버 여러 대여도 작업 분담)
+ * - 점유한 작업 중 키워드가 같은 회원들은 수집/관련성 평가/AI 분석을 한 번만 하고 결과를 모두에게 연결
+ * - 실행 중에 회원 직군/직무가 바뀐 작업(superseded)은 결과를 연결하지 않고, 끝나면 완료 대신 새 직군으로 다시 대기 (markDone/markFailed)
+ * - 점유 중인 작업은 heartbeat_at을 주기적으로 갱신 → 갱신이 끊긴 작업만 다른 서버가 재대기 처리
+ * - 매일 새벽 최근 이용(로그인/피드 조회) 회원의 수집 작업을 미리 등록 → 첫 피드 요청 전에 수집 완료
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NewsIngestWorker {
+
+    private final NewsIngestJobDao newsIngestJobDao;
+    private final TotalNewsService totalNewsService;
+    private final NewsIngestEvents newsIngestEvents;
+
+    // 이 서버가 점유 중인 작업 ID (heartbeat 대상)
+    private final Set<Integer> claimedJobIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${news.ingest.batch-size:10}")
+    private int batchSize; // 한 번에 점유할 같은 직군 작업 수
+
+    @Value("${news.ingest.stale-minutes:5}")
+    private int staleMinutes; // 생존 신호가 이 시간 이상 끊기면 서버 중단으로 보고 재대기
+
+    @Value("${news.ingest.daily-fetch-limit:50}")
+    private int dailyFetchLimit; // 일일 작업 수집 개수
+
+    /**
+     * 대기 작업 처리 (이전 실행이 끝난 뒤 poll-interval 만큼 쉬고 다시 실행)
+     */
+    @Scheduled(fixedDelayString = "${news.ingest.poll-interval-ms:5000}")
+    public void processPendingJobs() {
+        int reset = newsIngestJobDao.resetStaleJobs(staleMinutes);
+        if (reset > 0) {
+            log.warn("생존 신호가 끊긴 수집 작업 {}건 재대기 처리", reset);
+        }
+
+        List<NewsIngestJob> jobs;
+        while (!(jobs = newsIngestJobDao.claimPendingJobsOfOneGroup(batchSize)).isEmpty()) {
+            log.info("뉴스 수집 작업 점유 - 직군: {}, {}건", jobs.get(0).getJobGroup(), jobs.size());
+            jobs.forEach(job -> claimedJobIds.add(job.getJobId()));
+
+            for (Map.Entry<List<String>, List<NewsIngestJob>> entry : groupByKeywords(jobs).entrySet()) {
+                runJobs(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 점유 중인 작업 생존 신호 갱신
+     * - processPendingJobs가 오래 걸려도 갱신되도록 스케줄러 스레드를 2개 이상으로 설정 (spring.task.scheduling.pool.size)
+     */
+    @Scheduled(fixedDelayString = "${news.ingest.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        if (claimedJobIds.isEmpty()) {
+            return;
+        }
+        newsIngestJobDao.touchJobs(new ArrayList<>(claimedJobIds));
+    }
+
+    /**
+     * 매일 새벽 최근 7일 내 로그인/피드 조회한 회원들의 수집 작업 등록
+     */
+    @Scheduled(cron = "${news.ingest.daily-cron:0 0 6 * * *}")
+    public void enqueueDailyJobs() {
+        int inserted = newsIngestJobDao.insertDailyJobsForRecentMembers(dailyFetchLimit);
+        log.info("일일 뉴스 수집 작업 등록 - {}건", inserted);
+    }
+
+    // 회원 직군 키워드가 같은 작업끼리 묶기 (직군/직무가 같으면 키워드도 같음)
+    private Map<List<String>, List<NewsIngestJob>> groupByKeywords(List<NewsIngestJob> jobs) {
+        Map<List<String>, List<NewsIngestJob>> groups = new LinkedHashMap<>();
+        for (NewsIngestJob job : jobs) {
+            try {
+                List<String> keywords = totalNewsService.generateJobGroupKeywords(job.getMemberId());
+                groups.computeIfAbsent(keywords, k -> new ArrayList<>()).add(job);
+            } catch (Exception e) {
+                log.error("뉴스 수집 키워드 생성 실패 - jobId: {}, memberId: {}", job.getJobId(), job.getMemberId(), e);
+                finish(job, () -> newsIngestJobDao.markFailed(job.getJobId(), e.getMessage()));
+            }
+        }
+        return groups;
+    }
+
+    // 같은 키워드 작업 묶음 실행 - 실패해도 다음 묶음은 계속 처리
+    private void runJobs(List<String> keywords, List<NewsIngestJob> jobs) {
+        List<Integer> jobIds = jobs.stream().map(NewsIngestJob::getJobId).toList();
+        List<Integer> memberIds = jobs.stream().map(NewsIngestJob::getMemberId).toList();
+        int limit = jobs.stream().mapToInt(NewsIngestJob::getFetchLimit).max().orElse(dailyFetchLimit);
+
+        // 이 서버에서 피드 스트림을 보고 있는 회원에게 진행/기사 이벤트 전달
+        NewsIngestListener listener = newsIngestEvents.listenerFor(memberIds);
+
+        newsIngestJobDao.markStarted(jobIds);
+        try {
+            int analyzed = totalNewsService.ingestNews(keywords, memberIds, limit, listener);
+            for (NewsIngestJob job : jobs) {
+                finish(job, () -> newsIngestJobDao.markDone(job.getJobId(), analyzed));
+            }
+            log.info("뉴스 수집 작업 완료 - jobIds: {}, memberIds: {}, 분석: {}건", jobIds, memberIds, analyzed);
+            listener.onDone(analyzed);
+
+        } catch (Exception e) {
+            log.error("뉴스 수집 작업 실패 - jobIds: {}, memberIds: {}", jobIds, memberIds, e);
+            for (NewsIngestJob job : jobs) {
+                finish(job, () -> newsIngestJobDao.markFailed(job.getJobId(), e.getMessage()));
+            }
+            listener.onFailed(e.getMessage());
+        }
+    }
+
+    // 완료/실패 기록 후 heartbeat 대상에서 제외
+    private void finish(NewsIngestJob job, Runnable mark) {
+        try {
+            mark.run();
+        } finally {
+            claimedJobIds.remove(job.getJobId());
+        }
+    }
+}
@@ -9,27 +9,36 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.example.demo.ai.newstrend.JobKeywordGenerationAgent;
 import com.example.demo.ai.newstrend.JobRelevanceAgent;
+import com.example.demo.config.AiCallThrottle;
 import com.example.demo.member.dao.MemberDao;
 import com.example.demo.member.entity.Member;
 import com.example.demo.newstrend.dto.request.NewsAnalysisRequest;
 import com.example.demo.newstrend.dto.response.NewsAnalysisResponse;
 import com.example.demo.newstrend.dto.response.NewsAnalysisResult;
 import com.example.demo.newstrend.dto.response.NewsSummaryResponse;
+import com.example.demo.newstrend.entity.NewsIngestJob;
 import com.example.demo.newstrend.entity.NewsSummary;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * 뉴스 통합 서비스
@@ -50,7 +59,7 @@ import reactor.core.publisher.FluxSink;
 @Slf4j
 public class TotalNewsService {
   @Autowired
-  private JobKeywordGenerationAgent jobKeywordGenerationAgent; // ai로 직군별 키워드 생성
+  private JobKeywordCacheService jobKeywordCacheService; // 직군별 키워드 (AI 생성 결과 캐시)
 
   @Autowired
   private JobRelevanceAgent jobRelevanceAgent;// 뉴스 - 직군 관련성 평가
@@ -70,12 +79,30 @@ public class TotalNewsService {
   @Autowired
   private MemberDao memberDao;// 회원 정보 조회
 
-  TotalNewsService(JobKeywordGenerationAgent jobKeywordGenerationAgent) {
-    this.jobKeywordGenerationAgent = jobKeywordGenerationAgent;
+  @Autowired
+  private AiCallThrottle aiCallThrottle; // LLM 동시성/속도 제한
+
+  @Autowired
+  private NewsIngestService newsIngestService; // 백그라운드 수집 작업 큐
+
+  @Autowired
+  private NewsIngestEvents newsIngestEvents; // 수집 작업 진행 이벤트 (피드 스트림 구독)
+
+  @Value("${news.ingest.stream-poll-interval-ms:3000}")
+  private long streamPollIntervalMs; // 피드 스트림의 작업 상태 확인 주기
+
+  // AI 분석 워커 풀 (기본: 가상 스레드, 동시 실행 수는 AiCallThrottle이 제한)
+  private final ExecutorService analysisExecutor;
+
+  TotalNewsService(
+      @Value("${news.analysis.virtual-threads:true}") boolean useVirtualThreads,
+      @Value("${news.analysis.workers:4}") int workers) {
+    this.analysisExecutor = useVirtualThreads
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(Math.max(1, workers));
   }
 
-  // 회원 맞춤 뉴스 피드 조회(오늘 데이터 없으면 자동 수집)
-  @Transactional
+  // 회원 맞춤 뉴스 피드 조회(오늘 데이터 없으면 백그라운드 수집 작업 등록, 조회만 수행)
   public List<NewsAnalysisResponse> getNewsFeed(
       int memberId, // 회원 ID - 개인화된 피드 제공용
       String period, // 조회 기간 ("week", "month" 등)
@@ -84,6 +111,8 @@ public class TotalNewsService {
       int limit // 한 번에 가져올 뉴스 개수
   ) throws Exception {
 
+    memberDao.touchLastActive(memberId); // 일일 수집 대상 판단용 이용 기록
+
     List<String> jobGroupKeywords = generateJobGroupKeywords(memberId);
 
     if (jobGroupKeywords.isEmpty()) {
@@ -114,12 +143,9 @@ public class TotalNewsService {
         }
 
         if (!alreadyCollectedToday) {
-            log.info("피드 없음 + 오늘 미수집 → 수집");
-            collectAndAnalyzeNews(jobGroupKeywords, memberId, limit);
-
-            feedList = newsSummaryService.getNewsByJobGroup(
-                jobGroupKeywords, memberId, period, null, null, limit
-            );
+            // 요청 스레드에서 수집하지 않고 작업만 등록 → NewsIngestWorker가 처리, 프론트는 상태 폴링
+            log.info("피드 없음 + 오늘 미수집 → 수집 작업 등록");
+            newsIngestService.requestIngest(memberId, limit);
         }
     }
 
@@ -152,8 +178,9 @@ public class TotalNewsService {
 
   /**
    * ✅ 사용자 직군에 맞는 키워드 생성
+   * - NewsIngestWorker가 같은 키워드의 작업을 묶을 때도 사용
    */
-  private List<String> generateJobGroupKeywords(int memberId) {
+  List<String> generateJobGroupKeywords(int memberId) {
     // 1. 회원 정보 조회
     Member member = memberDao.findById(memberId);
     if (member == null) {
@@ -162,9 +189,10 @@ public class TotalNewsService {
 
     List<String> baseKeywords = getBaseKeywordsByJobGroup(member.getJobGroup());
 
-    List<String> aiKeywords = jobKeywordGenerationAgent.generateJobKeywords
-    (member.getJobGroup(),
-     member.getJobRole());
+    // (직군, 직무)별 캐시 → 피드/무한 스크롤마다 AI 호출하지 않음
+    List<String> aiKeywords = jobKeywordCacheService.getKeywords(
+        member.getJobGroup(),
+        member.getJobRole());
 
      // ✅ 1단계: AI 키워드 필터링 (15자 이하만)
     List<String> filteredAiKeywords = aiKeywords.stream()
@@ -215,11 +243,14 @@ public class TotalNewsService {
   /**
    * 단일 뉴스 분석 및 저장
    */
-  @Transactional
+  // 트랜잭션 없음: AI 분석 동안 커넥션을 잡지 않고, 저장은 NewsSummaryService의 개별 트랜잭션으로
   public NewsAnalysisResponse analyzeAndSaveNews(NewsAnalysisRequest request) throws Exception {
-    // 중복 체크
+    // 중복 체크 (이미 분석된 기사면 회원에게 연결만)
     if (newsSummaryService.existsByUrl(request.getSourceUrl())) {
       log.warn("이미 존재하는 뉴스입니다.:{}", request.getSourceUrl());
+      if (request.getMemberId() != null) {
+        newsSummaryService.linkToMemberByUrls(request.getMemberId(), List.of(request.getSourceUrl()));
+      }
       return null;
     }
 
@@ -247,8 +278,11 @@ public class TotalNewsService {
     entity.setAnalysisJson(objectMapper.writeValueAsString(analysisResult.getAnalysis()));
     entity.setKeywordsJson(objectMapper.writeValueAsString(analysisResult.getKeywords()));
 
-    // 저장
-    newsSummaryService.saveNewsSummary(entity);
+    // 저장 + 회원 연결
+    NewsSummary saved = newsSummaryService.saveNewsSummary(entity);
+    if (request.getMemberId() != null) {
+      newsSummaryService.linkToMember(request.getMemberId(), saved.getSummaryId());
+    }
 
     // Response 변환 및 반환
     NewsAnalysisResponse response = createResponse(entity, analysisResult);
@@ -258,21 +292,47 @@ public class TotalNewsService {
   /**
    * 뉴스 수집, AI 분석 및 저장 통합 처리
    * - JobRelevanceAgent로 관련성 필터링 추가
+   * - 다른 회원이 이미 분석한 기사는 관련성 평가/재분석 없이 회원에게 연결만 (공유 기사 저장소)
+   * - 관련성 평가(LLM)는 새 기사만 대상
    * 
    * @param keywords 검색 키워드 목록
    * @param memberId 회원 ID
    * @param limit    수집 제한 개수
    * @return 분석된 뉴스 개수
    */
-  @Transactional // 트랜잭션 처리: 전체 작업이 성공/실패 단위로 처리됨
+  // 트랜잭션 없음: 기사마다 분석이 끝나는 즉시 개별 트랜잭션으로 저장 (긴 분석 동안 커넥션 점유 방지)
   public int collectAndAnalyzeNews(List<String> keywords, Integer memberId, int limit) throws Exception {
+    return collectAndAnalyzeNews(keywords, memberId, limit, NewsIngestListener.NONE);
+  }
+
+  /**
+   * 뉴스 수집, AI 분석 및 저장 통합 처리 (진행 상황 콜백 포함)
+   * 
+   * @param listener 단계별 진행/저장된 기사 알림 (SSE 스트리밍용)
+   * @return 분석된 뉴스 개수
+   */
+  public int collectAndAnalyzeNews(List<String> keywords, Integer memberId, int limit,
+      NewsIngestListener listener) throws Exception {
+    return collectAndAnalyze(keywords, List.of(memberId), limit, listener);
+  }
+
+  /**
+   * 수집/관련성 평가/분석을 한 번만 하고 결과 기사를 여러 회원에게 연결
+   * - 첫 번째 회원 기준으로 수집 (기사 작성자, 관련성 평가 직군)
+   * 
+   * @return 첫 번째 회원 피드에 새로 추가된 뉴스 개수
+   */
+  private int collectAndAnalyze(List<String> keywords, List<Integer> memberIds, int limit,
+      NewsIngestListener listener) throws Exception {
+    Integer memberId = memberIds.get(0);
     // INFO 로그: 처리 시작 시점과 주요 파라미터 기록
-    log.info("뉴스 수집 및 분석 통합 처리 시작 - keywords: {}, memberId: {}", keywords, memberId);
+    log.info("뉴스 수집 및 분석 통합 처리 시작 - keywords: {}, memberIds: {}", keywords, memberIds);
 
     // ========== 1단계: 뉴스 수집 ==========
     // NewsCollectorService를 통해 네이버 API에서 뉴스 수집
     List<NewsAnalysisRequest> collectedNews = newsCollectorService.collectNews(keywords, memberId, limit);
     log.info("뉴스 수집 완료 - {}건", collectedNews.size()); // 수집된 뉴스 개수 로그
+    listener.onProgress("collected", collectedNews.size());
 
     // 수집된 뉴스가 없으면 조기 종료
     if (collectedNews.isEmpty()) {
@@ -280,20 +340,50 @@ public class TotalNewsService {
       return 0; // 분석된 개수 0 반환
     }
 
-    // ========== 2단계: 회원의 직군 정보 조회 (관련성 평가용) ==========
+    // ========== 2단계: 이미 분석된 기사는 회원에게 연결만 (관련성 평가/AI 분석 없음) ==========
+    Set<String> existingUrls = newsSummaryService.findExistingUrls(
+        collectedNews.stream().map(NewsAnalysisRequest::getSourceUrl).toList());
+
+    int linkedCount = 0;
+    if (!existingUrls.isEmpty()) {
+      for (Integer targetMemberId : memberIds) {
+        int linked = newsSummaryService.linkToMemberByUrls(targetMemberId, new ArrayList<>(existingUrls));
+        if (targetMemberId.equals(memberId)) {
+          linkedCount = linked;
+        }
+      }
+      log.info("기존 분석 기사 재사용 - {}건 중 {}건 회원 연결", existingUrls.size(), linkedCount);
+    }
+    listener.onProgress("reused", linkedCount);
+    if (listener != NewsIngestListener.NONE && !existingUrls.isEmpty()) {
+      newsSummaryService.getNewsByUrls(new ArrayList<>(existingUrls)).forEach(listener::onNews);
+    }
+
+    List<NewsAnalysisRequest> newNews = collectedNews.stream()
+        .filter(news -> !existingUrls.contains(news.getSourceUrl()))
+        .toList();
+
+    if (newNews.isEmpty()) {
+      log.info("새로 분석할 뉴스가 없습니다.");
+      return linkedCount;
+    }
+
+    // ========== 3단계: 회원의 직군 정보 조회 (관련성 평가용) ==========
     Member member = memberDao.findById(memberId); // DB에서 회원 정보 조회
     // 직군이 없으면 "기타"로 기본값 설정 (null 안전 처리)
     String jobGroup = (member != null && member.getJobGroup() != null) ? member.getJobGroup() : "기타";
 
-    // ========== 3단계: JobRelevanceAgent로 관련성 필터링 ==========
+    // ========== 4단계: JobRelevanceAgent로 관련성 필터링 (새 기사만) ==========
     List<NewsAnalysisRequest> relevantNews = new ArrayList<>(); // 관련성 높은 뉴스 저장용 리스트
     int filteredCount = 0; // 필터링된 뉴스 개수 카운터
 
-    // 수집된 모든 뉴스에 대해 관련성 평가
-    for (NewsAnalysisRequest news : collectedNews) {
-     
-        // AI Agent를 통해 뉴스-직군 간 관련성 점수 계산 (0-100점)
-        int relevanceScore = jobRelevanceAgent.calculateRelevanceScore(news, jobGroup);
+    // 새 뉴스를 배치로 관련성 평가 (여러 기사를 한 번의 AI 호출로 평가, 0-100점)
+    List<Integer> relevanceScores = aiCallThrottle.call(
+        () -> jobRelevanceAgent.scoreBatch(newNews, jobGroup));
+
+    for (int i = 0; i < newNews.size(); i++) {
+        NewsAnalysisRequest news = newNews.get(i);
+        int relevanceScore = relevanceScores.get(i);
 
         // 관련성 점수가 15점 이상인 뉴스만 선별 (임계값)
         if (relevanceScore >= 15) {
@@ -303,89 +393,259 @@ public class TotalNewsService {
           filteredCount++; // 필터링된 뉴스 카운트 증가
           // log.debug("관련성 낮은 뉴스 필터링: {} (점수: {})", news.getTitle(), relevanceScore);
         }
-
-        // API 호출 제한(Rate Limit) 방지를 위한 짧은 대기
-        Thread.sleep(200); // 200ms 대기 (초당 최대 5회 호출)
-
-     
     }
 
     // 필터링 결과 요약 로그
-    log.info("관련성 필터링 완료 - 전체: {}건, 관련성 높음: {}건, 필터링: {}건",
-        collectedNews.size(), relevantNews.size(), filteredCount);
+    log.info("관련성 필터링 완료 - 새 기사: {}건, 관련성 높음: {}건, 필터링: {}건",
+        newNews.size(), relevantNews.size(), filteredCount);
+    listener.onProgress("scored", relevantNews.size());
 
     // 관련성 높은 뉴스가 없으면 조기 종료
     if (relevantNews.isEmpty()) {
       log.info("관련성 높은 뉴스가 없습니다.");
-      return 0; // 분석된 개수 0 반환
+      return linkedCount; // 재사용으로 연결된 개수만 반환
+    }
+
+    // ========== 5단계: 새 기사만 AI 분석 및 저장 (병렬) ==========
+    // 기사별로 워커에서 분석 → 끝나는 즉시 저장. 동시 실행 수/호출 속도는 AiCallThrottle이 제한
+    List<CompletableFuture<AnalysisOutcome>> futures = new ArrayList<>();
+    for (NewsAnalysisRequest newsRequest : relevantNews) {
+      futures.add(CompletableFuture.supplyAsync(() -> analyzeAndSave(newsRequest, memberIds, listener), analysisExecutor));
     }
 
-    // ========== 4단계: 관련성 높은 뉴스만 AI 분석 및 저장 ==========
     int totalAnalyzed = 0; // 성공적으로 분석된 뉴스 개수
     int duplicateCount = 0; // 중복된 뉴스 개수
     int errorCount = 0; // 에러 발생 개수
 
-    // 관련성 높은 뉴스에 대해서만 AI 분석 수행 (비용/시간 절약)
-    for (NewsAnalysisRequest newsRequest : relevantNews) {
-      
-        // 4-1. AI 분석 실행 (NewsAIService)
-        log.debug("AI 분석 시작: {}", newsRequest.getTitle());
-        NewsAnalysisResult analysisResult = newsAIService.analyzeNews(newsRequest);
-
-        // 4-2. 엔티티 생성 및 AI 분석 결과 매핑
-        NewsSummary entity = new NewsSummary(); // DB 저장용 엔티티 생성
-        entity.setMemberId(newsRequest.getMemberId()); // 회원 ID
-        entity.setTitle(newsRequest.getTitle()); // 뉴스 제목
-        entity.setSourceName(newsRequest.getSourceName()); // 출처 (네이버 등)
-        entity.setSourceUrl(newsRequest.getSourceUrl()); // 원문 URL
-        // 발행일: 수집된 날짜가 있으면 사용, 없으면 현재 시각
-        entity.setPublishedAt(
-            newsRequest.getPublishedAt() != null
-                ? newsRequest.getPublishedAt()
-                : LocalDateTime.now());
-
-        // 4-3. AI 분석 결과를 JSON으로 직렬화하여 저장
-        entity.setSummaryText(analysisResult.getFinalSummary()); // AI 요약문
-        entity.setDetailSummary(analysisResult.getAnalysis().getDetailSummary()); // 상세 요약
-        // ObjectMapper로 Java 객체 → JSON 문자열 변환
-        entity.setAnalysisJson(objectMapper.writeValueAsString(analysisResult.getAnalysis())); // 감정/신뢰도 등
-        entity.setKeywordsJson(objectMapper.writeValueAsString(analysisResult.getKeywords())); // 키워드 리스트
-
-        // 4-4. DB에 저장
-        NewsSummary savedSummary = newsSummaryService.saveNewsSummary(entity);
-        if (savedSummary == entity) {
-          totalAnalyzed++;
-          log.info("뉴스 분석 및 저장 완료: {} (감정: {})",
-              newsRequest.getTitle(),
-              analysisResult.getAnalysis().getSentiment());
-        } else {
-          duplicateCount++;
-          log.debug("중복 뉴스 스킵: {}", newsRequest.getTitle());
-        }
-
-        // API 호출 제한(Rate Limit) 방지를 위한 대기
-        Thread.sleep(2000); // 1초 대기 (AI 분석은 시간이 걸리므로 여유있게 설정)
-
+    for (CompletableFuture<AnalysisOutcome> future : futures) {
+      switch (future.join()) {
+        case SAVED -> totalAnalyzed++;
+        case DUPLICATE -> duplicateCount++;
+        case FAILED -> errorCount++;
+      }
     }
 
     // ========== 최종 결과 요약 로그 ==========
-    log.info("뉴스 수집 및 분석 완료 - 수집: {}건, 관련성 필터: {}건, 분석 성공: {}건, 중복: {}건, 오류: {}건",
+    log.info("뉴스 수집 및 분석 완료 - 수집: {}건, 관련성 필터: {}건, 재사용: {}건, 분석 성공: {}건, 중복: {}건, 오류: {}건",
         collectedNews.size(), // 최초 수집된 뉴스 개수
         relevantNews.size(), // 관련성 필터링 통과한 뉴스 개수
+        existingUrls.size(), // 재분석/관련성 평가 없이 연결된 기존 기사 개수
         totalAnalyzed, // 최종 분석 성공한 뉴스 개수
         duplicateCount, // 중복 제거된 개수
         errorCount); // 에러 발생 개수
 
-    return totalAnalyzed; // 성공적으로 분석된 뉴스 개수 반환
+    return totalAnalyzed + linkedCount; // 회원 피드에 새로 추가된 뉴스 개수 반환
   }
 
   /**
-   * 오늘 날짜 뉴스 조회(없으면 자동 수집)
+   * 기사 1건 AI 분석 + 저장 (분석 워커에서 실행)
+   * - 실패해도 예외를 밖으로 던지지 않음 → 한 기사 실패가 배치 전체를 망치지 않도록 격리
+   * - 저장은 기사마다 개별 트랜잭션(NewsSummaryService.saveNewsSummary)
+   * - 저장(또는 동시에 다른 회원이 먼저 저장한 기존 기사) 후 회원들에게 연결
+   */
+  private AnalysisOutcome analyzeAndSave(NewsAnalysisRequest newsRequest, List<Integer> memberIds,
+      NewsIngestListener listener) {
+    try {
+      // 4-1. AI 분석 실행 (NewsAIService) - 모델 동시성/속도 제한은 AI 호출 단위로 NewsAIService에서 적용
+      log.debug("AI 분석 시작: {}", newsRequest.getTitle());
+      NewsAnalysisResult analysisResult = newsAIService.analyzeNews(newsRequest);
+
+      // 4-2. 엔티티 생성 및 AI 분석 결과 매핑
+      NewsSummary entity = new NewsSummary(); // DB 저장용 엔티티 생성
+      entity.setMemberId(newsRequest.getMemberId()); // 회원 ID
+      entity.setTitle(newsRequest.getTitle()); // 뉴스 제목
+      entity.setSourceName(newsRequest.getSourceName()); // 출처 (네이버 등)
+      entity.setSourceUrl(newsRequest.getSourceUrl()); // 원문 URL
+      // 발행일: 수집된 날짜가 있으면 사용, 없으면 현재 시각
+      entity.setPublishedAt(
+          newsRequest.getPublishedAt() != null
+              ? newsRequest.getPublishedAt()
+              : LocalDateTime.now());
+
+      // 4-3. AI 분석 결과를 JSON으로 직렬화하여 저장
+      entity.setSummaryText(analysisResult.getFinalSummary()); // AI 요약문
+      entity.setDetailSummary(analysisResult.getAnalysis().getDetailSummary()); // 상세 요약
+      // ObjectMapper로 Java 객체 → JSON 문자열 변환
+      entity.setAnalysisJson(objectMapper.writeValueAsString(analysisResult.getAnalysis())); // 감정/신뢰도 등
+      entity.setKeywordsJson(objectMapper.writeValueAsString(analysisResult.getKeywords())); // 키워드 리스트
+
+      // 4-4. DB에 저장 (분석이 끝난 기사부터 바로 저장)
+      NewsSummary savedSummary = newsSummaryService.saveNewsSummary(entity);
+      if (savedSummary != null) {
+        for (Integer memberId : memberIds) {
+          newsSummaryService.linkToMember(memberId, savedSummary.getSummaryId());
+        }
+      }
+      if (savedSummary != entity) {
+        log.debug("중복 뉴스 스킵: {}", newsRequest.getTitle());
+        return AnalysisOutcome.DUPLICATE;
+      }
+
+      log.info("뉴스 분석 및 저장 완료: {} (감정: {})",
+          newsRequest.getTitle(),
+          analysisResult.getAnalysis().getSentiment());
+      listener.onNews(createResponse(savedSummary, analysisResult));
+      return AnalysisOutcome.SAVED;
+
+    } catch (Exception e) {
+      log.error("뉴스 분석 실패 - 제목: {}, URL: {}", newsRequest.getTitle(), newsRequest.getSourceUrl(), e);
+      return AnalysisOutcome.FAILED;
+    }
+  }
+
+  // 기사별 분석 결과 구분
+  private enum AnalysisOutcome {
+    SAVED, DUPLICATE, FAILED
+  }
+
+  @PreDestroy
+  void shutdownAnalysisExecutor() {
+    analysisExecutor.shutdown();
+  }
+
+  /**
+   * 백그라운드 수집 작업 실행 (NewsIngestWorker에서 호출)
+   * - 같은 키워드의 회원들을 묶어 수집 → 관련성 필터링 → AI 분석/저장을 한 번만 수행
+   * - 결과 기사는 모든 회원에게 연결
+   * 
+   * @param keywords  회원들의 공통 직군 키워드
+   * @param memberIds 회원 ID 목록
+   * @param listener  진행/기사 알림 (피드 스트림 구독자에게 전달)
+   * @return 분석된 뉴스 개수
+   */
+  public int ingestNews(List<String> keywords, List<Integer> memberIds, int limit,
+      NewsIngestListener listener) throws Exception {
+    return collectAndAnalyze(keywords, memberIds, limit, listener);
+  }
+
+  /**
+   * 회원 맞춤 뉴스 피드 스트리밍 (SSE)
+   * - feed: 현재 저장된 피드 (바로 전송)
+   * - queued: 수집 작업 등록/합류 ({jobId, status}) - 수집은 작업 큐(NewsIngestWorker)에서만 실행
+   * - progress: 수집/재사용/관련성 평가 단계 진행 ({stage, count})
+   * - news: 피드에 추가된 기사 1건씩 (새로 분석한 기사 + 재사용한 기존 기사)
+   * - done: 완료 ({analyzed}), error: 실패 ({message})
+   * - 오늘 이미 수집했으면 feed 후 바로 done
+   * - 다른 서버가 작업을 처리하면 progress/news 없이 상태 폴링으로 done (새 feed와 함께)
+   * - 클라이언트가 연결을 끊으면 구독/폴링만 정리 (작업은 큐에서 계속 진행 → 다음 피드 조회에 반영)
+   */
+  public Flux<ServerSentEvent<Object>> streamNewsFeed(int memberId, String period, int limit) {
+    return Flux.<ServerSentEvent<Object>>create(sink -> {
+      Disposable.Composite resources = Disposables.composite();
+      sink.onDispose(resources);
+      AtomicBoolean finished = new AtomicBoolean();
+
+      try {
+        memberDao.touchLastActive(memberId);
+
+        List<String> jobGroupKeywords = generateJobGroupKeywords(memberId);
+
+        List<NewsAnalysisResponse> feedList = newsSummaryService.getNewsByJobGroup(
+            jobGroupKeywords, memberId, period, null, null, limit);
+        sink.next(sseEvent("feed", feedList != null ? feedList : new ArrayList<>()));
+
+        if (newsSummaryService.existsTodayNews(memberId)) {
+          sink.next(sseEvent("done", Map.of("analyzed", 0)));
+          sink.complete();
+          return;
+        }
+
+        // 작업 등록 전에 구독 (등록 직후 워커가 시작해도 이벤트를 놓치지 않도록)
+        Runnable unsubscribe = newsIngestEvents.subscribe(memberId, new NewsIngestListener() {
+          @Override
+          public void onProgress(String stage, int count) {
+            sink.next(sseEvent("progress", Map.of("stage", stage, "count", count)));
+          }
+
+          @Override
+          public void onNews(NewsAnalysisResponse news) {
+            sink.next(sseEvent("news", news));
+          }
+
+          @Override
+          public void onDone(int analyzed) {
+            if (finished.compareAndSet(false, true)) {
+              sink.next(sseEvent("done", Map.of("analyzed", analyzed)));
+              sink.complete();
+            }
+          }
+
+          @Override
+          public void onFailed(String message) {
+            if (finished.compareAndSet(false, true)) {
+              sink.next(sseEvent("error", Map.of("message", String.valueOf(message))));
+              sink.complete();
+            }
+          }
+        });
+        resources.add(unsubscribe::run);
+
+        // 진행 중인 작업이 있으면 합류 (중복 수집 없음)
+        NewsIngestJob job = newsIngestService.requestIngest(memberId, limit);
+        if (job == null) {
+          throw new IllegalStateException("수집 작업을 등록하지 못했습니다.");
+        }
+        sink.next(sseEvent("queued", Map.of("jobId", job.getJobId(), "status", job.getStatus())));
+        if (finishFromJob(job, memberId, jobGroupKeywords, period, limit, sink, finished)) {
+          return;
+        }
+
+        // 다른 서버에서 처리되는 작업은 이벤트가 오지 않으므로 상태 폴링으로 완료 확인
+        int jobId = job.getJobId();
+        resources.add(Flux.interval(Duration.ofMillis(streamPollIntervalMs), Schedulers.boundedElastic())
+            .subscribe(tick -> {
+              try {
+                finishFromJob(newsIngestService.getJob(jobId), memberId, jobGroupKeywords, period, limit,
+                    sink, finished);
+              } catch (Exception e) {
+                log.warn("수집 작업 상태 확인 실패 - jobId: {}", jobId, e);
+              }
+            }));
+
+      } catch (Exception e) {
+        log.error("뉴스 피드 스트리밍 실패 - memberId: {}", memberId, e);
+        sink.next(sseEvent("error", Map.of("message", String.valueOf(e.getMessage()))));
+        sink.complete();
+      }
+    }, FluxSink.OverflowStrategy.BUFFER)
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  // 작업이 이미 끝났으면 새 피드와 함께 done/error 전송 후 스트림 종료
+  private boolean finishFromJob(NewsIngestJob job, int memberId, List<String> jobGroupKeywords, String period,
+      int limit, FluxSink<ServerSentEvent<Object>> sink, AtomicBoolean finished) throws Exception {
+    if (job == null || !("DONE".equals(job.getStatus()) || "FAILED".equals(job.getStatus()))) {
+      return false;
+    }
+    if (!finished.compareAndSet(false, true)) {
+      return true;
+    }
+
+    if ("DONE".equals(job.getStatus())) {
+      List<NewsAnalysisResponse> feedList = newsSummaryService.getNewsByJobGroup(
+          jobGroupKeywords, memberId, period, null, null, limit);
+      sink.next(sseEvent("feed", feedList != null ? feedList : new ArrayList<>()));
+      int analyzed = job.getAnalyzedCount() != null ? job.getAnalyzedCount() : 0;
+      sink.next(sseEvent("done", Map.of("analyzed", analyzed)));
+    } else {
+      sink.next(sseEvent("error", Map.of("message", String.valueOf(job.getErrorMessage()))));
+    }
+    sink.complete();
+    return true;
+  }
+
+  private ServerSentEvent<Object> sseEvent(String name, Object data) {
+    return ServerSentEvent.builder(data).event(name).build();
+  }
+
+  /**
+   * 오늘 날짜 뉴스 조회(없으면 백그라운드 수집 작업 등록)
    */
-  @Transactional
   public List<NewsAnalysisResponse> getTodayNewsByMember(int memberId, int limit) throws Exception {
     log.info("오늘 뉴스 조회 - memberId: {}, limit: {}", memberId, limit);
 
+    memberDao.touchLastActive(memberId);
+
     List<String> jobGroupKeywords = generateJobGroupKeywords(memberId);
 
     // 1단계: 오늘 뉴스 체크 (기존 메서드 활용)
@@ -405,30 +665,15 @@ public class TotalNewsService {
     // 오늘 뉴스 존재 여부 확인
     boolean alreadyCollectedToday = newsSummaryService.existsTodayNews(memberId);
 
-    // 오늘 뉴스 없으면 자동 수집
-    if (!alreadyCollectedToday) {
-        log.info("오늘 뉴스 없음 → 자동 수집");
-        collectAndAnalyzeNews(jobGroupKeywords, memberId, limit);
-    } else {
-        log.info("오늘 뉴스 이미 수집됨");
-    }
-
-
     // 3단계: 일주일치 뉴스 조회
 
     List<NewsAnalysisResponse> weeklyNews = newsSummaryService.getNewsByJobGroup(
         jobGroupKeywords, memberId, "week", null, null, limit);
 
-    if (weeklyNews == null || weeklyNews.size() < 20) { // ✅ 최소 20개 확보
-      log.info("데이터 부족({} 건) - 대량 수집 시작", weeklyNews != null ? weeklyNews.size() : 0);
-
-      // 대량 수집 (100개 요청)
-      int analyzed = collectAndAnalyzeNews(jobGroupKeywords, memberId, 50); // ✅ 100개
-      log.info("대량 수집 완료 - {}건 분석됨", analyzed);
-
-      // 수집 후 다시 조회
-      weeklyNews = newsSummaryService.getNewsByJobGroup(
-          jobGroupKeywords, memberId, "week", null, null, limit);
+    // 오늘 미수집이거나 데이터 부족(최소 20개)이면 대량 수집 작업 등록 (요청 스레드에서는 조회만)
+    if (!alreadyCollectedToday || weeklyNews == null || weeklyNews.size() < 20) {
+      log.info("오늘 미수집 또는 데이터 부족({} 건) - 수집 작업 등록", weeklyNews != null ? weeklyNews.size() : 0);
+      newsIngestService.requestIngest(memberId, 50);
     } else {
       log.info("충분한 데이터 존재 - {}건", weeklyNews.size());
     }
@@ -441,8 +686,8 @@ public class TotalNewsService {
 
   /**
    * 뉴스 검색 및 수집 (API 엔드포인트용)
+   * - 트랜잭션 없음: 수집/AI 분석 동안 커넥션을 잡지 않음 (기사별 저장은 각자 트랜잭션)
    */
-  @Transactional
   public int searchNews(List<String> keywords, Integer memberId, int limit) throws Exception {
     log.info("뉴스 검색 시작 - keywords: {}, memberId: {}", keywords, memberId);
 
@@ -0,0 +1,278 @@
+package com.example.demo.newstrend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.newstrend.dao.TrendDailyRatioDao;
+import com.example.demo.newstrend.entity.TrendDailyRatio;
+import com.example.demo.newstrend.service.NaverDataLabService.DailyRatio;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키워드별 일간 검색량 저장소 (trend_daily_ratio)
+ * - 한 번 받은 (키워드, 날짜) 값은 저장해 두고, 기간 중 비어 있는 날짜부터만 데이터랩에 요청 (증분 수집)
+ * - 데이터랩 ratio는 요청 기간의 최댓값 = 100 기준이라 요청마다 기준이 다름
+ *   → 이미 저장된 날짜(ANCHOR_DAYS일)를 함께 받아서 저장된 값에 맞게 환산한 뒤 이어 붙임
+ *   → 겹치는 날짜가 없거나 전부 0이면 이어 붙일 수 없으므로 그 이전 기록은 지우고 새로 시작
+ * - 오늘처럼 아직 끝나지 않은 날짜의 값은 확정 전 값으로 보고 provisionalTtl 동안만 재사용
+ * - 데이터랩이 아직 집계하지 않은 마지막 날짜들은 응답에서 빠짐 → 0으로 저장하지 않고 값 없음으로 둠
+ *   (응답에서도 빼서 평균/최근 변화율 계산에 0이 섞이지 않도록, 재확인은 provisionalTtl마다)
+ * - 조회 결과는 기간 최댓값 = 100으로 다시 환산해 데이터랩 단일 키워드 응답과 같은 구조로 반환
+ *   → 7일보다 긴 분석 기간도 저장된 값으로 조립 (추가로 받는 건 비어 있는 날짜뿐)
+ */
+@Service
+@Slf4j
+public class TrendSeriesService {
+
+    private static final int ANCHOR_DAYS = 3; // 기준을 맞추기 위해 함께 다시 받는 이미 저장된 날짜 수
+
+    private final NaverDataLabService naverDataLabService;
+    private final TrendDailyRatioDao trendDailyRatioDao;
+    private final Duration provisionalTtl;
+
+    // 키워드 → 마지막으로 받은 날짜 이후가 비어 있음을 확인한 시각 (provisionalTtl 동안 다시 요청하지 않음)
+    private final Map<String, LocalDateTime> trailingCheckedAt = new ConcurrentHashMap<>();
+
+    // 수집 시작일이 다른 키워드 묶음끼리 동시에 요청
+    private final ExecutorService fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TrendSeriesService(
+            NaverDataLabService naverDataLabService,
+            TrendDailyRatioDao trendDailyRatioDao,
+            @Value("${naver.datalab.store.provisional-minutes:360}") long provisionalMinutes) {
+        this.naverDataLabService = naverDataLabService;
+        this.trendDailyRatioDao = trendDailyRatioDao;
+        this.provisionalTtl = Duration.ofMinutes(provisionalMinutes);
+    }
+
+    /**
+     * 키워드별 일간 검색량 조회 (저장소 → 비어 있는 날짜만 데이터랩)
+     *
+     * @param keywords  검색 키워드
+     * @param startDate 시작일
+     * @param endDate   종료일
+     * @return 키워드 → { startDate, endDate, timeUnit, results: [ { title, keywords, data: [ { period, ratio } ] } ] }
+     *         (키워드 순서 유지, 수집 실패 시 { "error": ... })
+     */
+    public Map<String, Object> getTrendData(List<String> keywords, LocalDate startDate, LocalDate endDate) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keywords));
+        Map<String, Object> trendData = new LinkedHashMap<>();
+        if (distinct.isEmpty()) {
+            return trendData;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, TreeMap<LocalDate, TrendDailyRatio>> stored = loadStored(
+                distinct, startDate.minusDays(ANCHOR_DAYS), endDate);
+
+        // 키워드별 수집 시작일 (비어 있는 첫 날짜 - ANCHOR_DAYS) → 같은 시작일끼리 묶어서 요청
+        Map<LocalDate, List<String>> keywordsByFetchStart = new TreeMap<>();
+        for (String keyword : distinct) {
+            LocalDate firstMissing = firstMissingDate(keyword, stored.get(keyword), startDate, endDate, now);
+            if (firstMissing != null) {
+                keywordsByFetchStart.computeIfAbsent(firstMissing.minusDays(ANCHOR_DAYS), d -> new ArrayList<>())
+                        .add(keyword);
+            }
+        }
+
+        int reused = distinct.size() - keywordsByFetchStart.values().stream().mapToInt(List::size).sum();
+        log.info("검색량 저장소 조회 - 키워드 {}개 중 저장된 값 재사용 {}개, 수집 묶음 {}개",
+                distinct.size(), reused, keywordsByFetchStart.size());
+
+        Map<LocalDate, CompletableFuture<Map<String, List<DailyRatio>>>> fetches = new LinkedHashMap<>();
+        keywordsByFetchStart.forEach((fetchStart, group) -> fetches.put(fetchStart, CompletableFuture.supplyAsync(
+                () -> naverDataLabService.fetchDailyRatios(group, fetchStart, endDate), fetchExecutor)));
+
+        Set<String> failed = new HashSet<>();
+        keywordsByFetchStart.forEach((fetchStart, group) -> {
+            Map<String, List<DailyRatio>> fetched = fetches.get(fetchStart).join();
+            for (String keyword : group) {
+                List<DailyRatio> series = fetched.get(keyword);
+                if (series == null) {
+                    failed.add(keyword);
+                    continue;
+                }
+                merge(keyword, series, fetchStart, endDate,
+                        stored.computeIfAbsent(keyword, k -> new TreeMap<>()), now);
+            }
+        });
+
+        for (String keyword : distinct) {
+            if (failed.contains(keyword)) {
+                trendData.put(keyword, Map.of("error", "API 호출 실패"));
+            } else {
+                trendData.put(keyword, toTrendResponse(keyword, startDate, endDate, stored.get(keyword)));
+            }
+        }
+        return trendData;
+    }
+
+    @PreDestroy
+    void shutdownFetchExecutor() {
+        fetchExecutor.shutdown();
+    }
+
+    // 저장된 값 조회 (실패하면 전부 새로 수집)
+    private Map<String, TreeMap<LocalDate, TrendDailyRatio>> loadStored(List<String> keywords, LocalDate from,
+            LocalDate to) {
+        Map<String, TreeMap<LocalDate, TrendDailyRatio>> stored = new HashMap<>();
+        try {
+            for (TrendDailyRatio row : trendDailyRatioDao.selectDailyRatios(keywords, from, to)) {
+                stored.computeIfAbsent(row.getKeyword(), k -> new TreeMap<>()).put(row.getTrendDate(), row);
+            }
+        } catch (Exception e) {
+            log.warn("검색량 저장소 조회 실패 - 전체 수집으로 진행: {}", e.getMessage());
+        }
+        return stored;
+    }
+
+    // 기간 중 다시 받아야 하는 첫 날짜 (모두 재사용 가능하면 null)
+    private LocalDate firstMissingDate(String keyword, TreeMap<LocalDate, TrendDailyRatio> series,
+            LocalDate startDate, LocalDate endDate, LocalDateTime now) {
+        LocalDate lastStored = series != null && !series.isEmpty() ? series.lastKey() : null;
+        LocalDateTime checkedAt = trailingCheckedAt.get(keyword);
+        boolean trailingRecentlyChecked = checkedAt != null && checkedAt.isAfter(now.minus(provisionalTtl));
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            TrendDailyRatio row = series != null ? series.get(date) : null;
+            if (row == null) {
+                // 마지막 저장 날짜 이후는 데이터랩이 아직 집계 전 → 최근에 확인했으면 값 없음으로 둠
+                boolean trailing = lastStored == null || date.isAfter(lastStored);
+                return trailing && trailingRecentlyChecked ? null : date;
+            }
+            if (!(isFinal(row) || row.getFetchedAt().isAfter(now.minus(provisionalTtl)))) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    // 새로 받은 값을 저장된 값의 기준에 맞춰 환산 후 저장
+    private void merge(String keyword, List<DailyRatio> series, LocalDate fetchStart, LocalDate endDate,
+            TreeMap<LocalDate, TrendDailyRatio> storedSeries, LocalDateTime now) {
+        // 데이터랩이 준 날짜만 저장
+        TreeMap<LocalDate, Double> fetched = new TreeMap<>();
+        for (DailyRatio point : series) {
+            if (!point.period().isBefore(fetchStart) && !point.period().isAfter(endDate)) {
+                fetched.put(point.period(), point.ratio());
+            }
+        }
+
+        // 마지막으로 준 날짜 이후는 아직 집계 전 → 저장하지 않음 (값 없음, 확정 0이 아님)
+        if (fetched.isEmpty() || fetched.lastKey().isBefore(endDate)) {
+            trailingCheckedAt.put(keyword, now);
+        } else {
+            trailingCheckedAt.remove(keyword);
+        }
+        if (fetched.isEmpty()) {
+            log.info("검색량 데이터 없음 (집계 전) - keyword: {}, {} ~ {}", keyword, fetchStart, endDate);
+            return;
+        }
+
+        // 받은 구간 안에서 빠진 날짜는 검색량이 없는 날 → 0으로 채움
+        for (LocalDate date = fetchStart; date.isBefore(fetched.lastKey()); date = date.plusDays(1)) {
+            fetched.putIfAbsent(date, 0.0);
+        }
+
+        // 겹치는 확정 값의 합 비율로 기준 환산
+        double storedSum = 0;
+        double fetchedSum = 0;
+        for (Map.Entry<LocalDate, Double> entry : fetched.entrySet()) {
+            TrendDailyRatio row = storedSeries.get(entry.getKey());
+            if (row != null && isFinal(row) && row.getRatio() > 0 && entry.getValue() > 0) {
+                storedSum += row.getRatio();
+                fetchedSum += entry.getValue();
+            }
+        }
+
+        double scale = 1.0;
+        if (fetchedSum > 0) {
+            scale = storedSum / fetchedSum;
+        } else {
+            // 이어 붙일 기준이 없음 → 이전 기록은 기준이 달라지므로 삭제
+            storedSeries.headMap(fetchStart).clear();
+            try {
+                trendDailyRatioDao.deleteDailyRatiosBefore(keyword, fetchStart);
+            } catch (Exception e) {
+                log.warn("검색량 저장소 이전 기록 삭제 실패 - keyword: {}, {}", keyword, e.getMessage());
+            }
+        }
+
+        List<TrendDailyRatio> rows = new ArrayList<>();
+        for (Map.Entry<LocalDate, Double> entry : fetched.entrySet()) {
+            TrendDailyRatio row = new TrendDailyRatio();
+            row.setKeyword(keyword);
+            row.setTrendDate(entry.getKey());
+            row.setRatio(entry.getValue() * scale);
+            row.setFetchedAt(now);
+            rows.add(row);
+            storedSeries.put(entry.getKey(), row);
+        }
+
+        try {
+            trendDailyRatioDao.upsertDailyRatios(rows);
+        } catch (Exception e) {
+            log.warn("검색량 저장소 저장 실패 - keyword: {}, {}", keyword, e.getMessage());
+        }
+    }
+
+    // 그 날짜가 끝난 뒤에 받은 값인지
+    private static boolean isFinal(TrendDailyRatio row) {
+        return row.getFetchedAt().toLocalDate().isAfter(row.getTrendDate());
+    }
+
+    // 기간 최댓값 = 100으로 환산해 데이터랩 단일 키워드 응답 구조로 변환 (값 없는 날짜는 데이터랩처럼 빼고 반환)
+    private static Map<String, Object> toTrendResponse(String keyword, LocalDate startDate, LocalDate endDate,
+            TreeMap<LocalDate, TrendDailyRatio> series) {
+        Map<LocalDate, Double> window = new TreeMap<>();
+        double max = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            TrendDailyRatio row = series != null ? series.get(date) : null;
+            if (row == null) {
+                continue;
+            }
+            window.put(date, row.getRatio());
+            max = Math.max(max, row.getRatio());
+        }
+
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (Map.Entry<LocalDate, Double> entry : window.entrySet()) {
+            double ratio = max > 0 ? entry.getValue() * 100 / max : 0;
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("period", entry.getKey().toString());
+            point.put("ratio", Math.round(ratio * 100000) / 100000.0); // 데이터랩과 같은 소수점 5자리
+            data.add(point);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("title", keyword);
+        result.put("keywords", List.of(keyword));
+        result.put("data", data);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("startDate", startDate.toString());
+        response.put("endDate", endDate.toString());
+        response.put("timeUnit", "date");
+        response.put("results", List.of(result));
+        return response;
+    }
+}
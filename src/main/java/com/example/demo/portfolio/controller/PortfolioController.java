@@ -21,6 +21,10 @@ import com.example.demo.portfolio.dto.response.PortfolioSummaryResponse;
 import com.example.demo.portfolio.entity.Portfolio;
 import com.example.demo.portfolio.entity.PortfolioImage;
 import com.example.demo.portfolio.service.PortfolioService;
+import com.example.demo.storage.MediaStreamer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/portfolio")
@@ -29,6 +33,9 @@ public class PortfolioController {
   @Autowired
   private PortfolioService portfolioService;
 
+  @Autowired
+  private MediaStreamer mediaStreamer;
+
   // PDF 업로드
   @PostMapping("/create")
   public ResponseEntity<?> createPortfolio(
@@ -59,11 +66,13 @@ public class PortfolioController {
     }
   }
 
-  // PDF 조회
+  // PDF 조회 (Range 요청 시 206 Partial Content, ETag 일치 시 304)
   @GetMapping("/pdf/{portfolioId}")
-  public ResponseEntity<byte[]> getPdf(@PathVariable("portfolioId") Integer portfolioId) {
-    byte[] pdfBytes = portfolioService.getPdf(portfolioId);
-    return ResponseEntity.ok(pdfBytes);
+  public void getPdf(
+      @PathVariable("portfolioId") Integer portfolioId,
+      HttpServletRequest request,
+      HttpServletResponse response) throws Exception {
+    mediaStreamer.stream(portfolioService.getPdf(portfolioId), request, response);
   }
 
   // 사용자별 포트폴리오 전체 조회
@@ -13,6 +13,8 @@ public interface PortfolioDao {
   public int insertPortfolio(Portfolio portfolio); //포트폴리오 생성 
 
   public Portfolio selectPortfolioById(Integer portfolioId); // 포트폴리오 조회
+
+  public Portfolio selectPortfolioPdf(Integer portfolioId); // PDF 파일 정보 조회
  
   public List<Portfolio> selectPortfoliosByMemberId(Integer memberId); // 회원별 포트폴리오 목록 조회
 
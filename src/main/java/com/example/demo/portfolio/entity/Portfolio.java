@@ -10,7 +10,8 @@ public class Portfolio {
   private Integer portfolioId;//포트폴리오 ID
   private Integer memberId;
   private String title;//포트폴리오 제목
-  private byte[] pdfFile; //파일
+  private byte[] pdfFile; //파일 (blob 저장소 사용 전 기존 포트폴리오만)
+  private String pdfBlobId; //파일 blob ID (BlobStorage)
   private String originalFilename; //원본파일
   private String contentType; //타입
   private int pageCount; //페이지수(PDF만 사용)
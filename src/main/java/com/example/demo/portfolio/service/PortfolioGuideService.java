@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import com.example.demo.ai.portfolioguide.PortfolioGuideAgent;
 import com.example.demo.ai.portfolioguide.PortfolioGuideAgentDirect;
+import com.example.demo.config.RequestCoalescer;
 import com.example.demo.member.dao.MemberDao;
 import com.example.demo.member.entity.Member;
 import com.example.demo.portfolio.dao.PortfolioGuideDao;
@@ -52,6 +53,9 @@ public class PortfolioGuideService {
     @Autowired
     private PortfolioGuidePdfService pdfService;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer; // 타이핑 중 연속 코칭 요청 병합
+
     // 메인 코칭 메서드
     public GuideResult provideCoaching(GuideRequest request) throws Exception {
         LocalDateTime startTime = LocalDateTime.now();
@@ -265,7 +269,10 @@ public class PortfolioGuideService {
         log.info("AI 코칭 요청 - memberId: {}, fieldType: {}",
                 request.getMemberId(), request.getInputFieldType());
         // ========== AI 에이전트 호출 ==========
-        GuideResult result = provideCoaching(request);
+        // 같은 회원/가이드/입력 필드의 연속 요청은 최신 입력 1건만 평가하고 결과 공유
+        GuideResult result = requestCoalescer.submit(
+                coachingKey("guide", request),
+                () -> provideCoaching(request));
         return result; // AI 코칭 결과 반환
     }
 
@@ -398,8 +405,19 @@ public class PortfolioGuideService {
         return result;
     }
 
-    // Direct 방식 테스트용
-    public GuideResult provideCoachingDirect(GuideRequest request) {
+    // Direct 방식 테스트용 (연속 요청 병합)
+    public GuideResult provideCoachingDirect(GuideRequest request) throws Exception {
+        return requestCoalescer.submit(
+                coachingKey("guide-direct", request),
+                () -> runCoachingDirect(request));
+    }
+
+    // 코칭 요청 병합 키: 회원 + 가이드 + 입력 필드
+    private String coachingKey(String type, GuideRequest request) {
+        return type + ":" + request.getMemberId() + ":" + request.getGuideId() + ":" + request.getInputFieldType();
+    }
+
+    private GuideResult runCoachingDirect(GuideRequest request) {
         LocalDateTime startTime = LocalDateTime.now();
         log.info("코칭 요청 (Direct) - memberId: {}, inputFieldType: {}",
                 request.getMemberId(), request.getInputFieldType());
@@ -1,8 +1,12 @@
 package com.example.demo.portfolio.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,6 +21,10 @@ import com.example.demo.portfolio.dto.response.PortfolioPageFeedbackResponse;
 import com.example.demo.portfolio.dto.response.PortfolioSummaryResponse;
 import com.example.demo.portfolio.entity.Portfolio;
 import com.example.demo.portfolio.entity.PortfolioImage;
+import com.example.demo.storage.BlobInfo;
+import com.example.demo.storage.BlobResource;
+import com.example.demo.storage.BlobStorage;
+import com.example.demo.storage.MediaContent;
 
 @Service
 public class PortfolioService {
@@ -33,6 +41,9 @@ public class PortfolioService {
   @Autowired
   private PortfolioSummaryAnalysisAgent portfolioSummaryAnalysisAgent;
 
+  @Autowired
+  private BlobStorage blobStorage;
+
   @Transactional
   public Integer createPortfolio(PortfolioCreateRequest request) throws Exception {
 
@@ -44,7 +55,10 @@ public class PortfolioService {
     portfolio.setTitle(request.getTitle());
     portfolio.setOriginalFilename(pdfFile.getOriginalFilename());
     portfolio.setContentType(pdfFile.getContentType());
-    portfolio.setPdfFile(pdfFile.getBytes());
+    // PDF는 blob 저장소에 스트리밍 저장, DB에는 blob ID만
+    try (InputStream in = pdfFile.getInputStream()) {
+      portfolio.setPdfBlobId(blobStorage.store(in).blobId());
+    }
 
     portfolioDao.insertPortfolio(portfolio);
 
@@ -53,8 +67,11 @@ public class PortfolioService {
 
   // 페이지별로 분석하는 에이전트 호출
   public List<PortfolioPageFeedbackResponse> analyzePortfolio(Integer portfolioId) throws Exception {
-    Portfolio portfolio = portfolioDao.selectPortfolioById(portfolioId);
-    return portfolioPageAnalysisAgent.analyzePortfolio(portfolio.getPdfFile(), portfolioId, portfolio.getMemberId());
+    Portfolio portfolio = portfolioDao.selectPortfolioPdf(portfolioId);
+    if (portfolio == null) {
+      throw new NoSuchElementException("포트폴리오를 찾을 수 없습니다.");
+    }
+    return portfolioPageAnalysisAgent.analyzePortfolio(readPdf(portfolio), portfolioId, portfolio.getMemberId());
   }
 
   // 최종 피드백 생성
@@ -63,10 +80,26 @@ public class PortfolioService {
     return portfolioSummaryAnalysisAgent.generateSummary(portfolioId, portfolio.getMemberId());
   }
 
-  // PDF 조회
-  public byte[] getPdf(Integer portfolioId) {
-    Portfolio portfolio = portfolioDao.selectPortfolioById(portfolioId);
-    return portfolio.getPdfFile();
+  // PDF 조회 (스트리밍용)
+  public MediaContent getPdf(Integer portfolioId) throws IOException {
+    Portfolio portfolio = portfolioDao.selectPortfolioPdf(portfolioId);
+    if (portfolio == null) {
+      throw new NoSuchElementException("포트폴리오를 찾을 수 없습니다.");
+    }
+
+    String contentType = portfolio.getContentType() != null ? portfolio.getContentType() : "application/pdf";
+    if (portfolio.getPdfBlobId() != null) {
+      BlobInfo blob = blobStorage.stat(portfolio.getPdfBlobId());
+      if (blob == null) {
+        throw new NoSuchElementException("파일을 찾을 수 없습니다.");
+      }
+      return new MediaContent(new BlobResource(blobStorage, blob), contentType, portfolio.getOriginalFilename());
+    }
+    if (portfolio.getPdfFile() != null) {
+      // blob 저장소 사용 전 포트폴리오
+      return new MediaContent(new ByteArrayResource(portfolio.getPdfFile()), contentType, portfolio.getOriginalFilename());
+    }
+    throw new NoSuchElementException("파일을 찾을 수 없습니다.");
   }
 
   // 사용자별 포트폴리오 전체 조회
@@ -88,4 +121,14 @@ public class PortfolioService {
   public void deletePortfolio(Integer portfolioId) {
     portfolioDao.deletePortfolio(portfolioId);
   }
+
+  // 분석용 PDF 전체 읽기
+  private byte[] readPdf(Portfolio portfolio) throws IOException {
+    if (portfolio.getPdfBlobId() == null) {
+      return portfolio.getPdfFile();
+    }
+    try (InputStream in = blobStorage.open(portfolio.getPdfBlobId())) {
+      return in.readAllBytes();
+    }
+  }
 }
@@ -0,0 +1,22 @@
+package com.example.demo.storage;
+
+import java.util.List;
+
+/**
+ * 저장된 blob 정보
+ *
+ * @param blobId 전체 내용의 SHA-256 (hex)
+ * @param size   전체 크기 (bytes)
+ * @param chunks 내용 순서대로의 청크 목록
+ */
+public record BlobInfo(String blobId, long size, List<Chunk> chunks) {
+
+    /**
+     * 청크
+     *
+     * @param hash 청크 내용의 SHA-256 (hex) = 저장 위치
+     * @param size 청크 크기 (bytes)
+     */
+    public record Chunk(String hash, long size) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.core.io.AbstractResource;
+
+/**
+ * blob을 Spring Resource로 노출
+ * - MediaStreamer는 getBlob()의 청크 목록으로 필요한 구간만 파일에서 직접 전송
+ */
+public class BlobResource extends AbstractResource {
+
+    private final BlobStorage blobStorage;
+    private final BlobInfo blob;
+
+    public BlobResource(BlobStorage blobStorage, BlobInfo blob) {
+        this.blobStorage = blobStorage;
+        this.blob = blob;
+    }
+
+    public BlobInfo getBlob() {
+        return blob;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return blobStorage.open(blob.blobId());
+    }
+
+    @Override
+    public long contentLength() {
+        return blob.size();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "blob [" + blob.blobId() + "]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof BlobResource that && blob.blobId().equals(that.blob.blobId()));
+    }
+
+    @Override
+    public int hashCode() {
+        return blob.blobId().hashCode();
+    }
+}
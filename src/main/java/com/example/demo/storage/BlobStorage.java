@@ -0,0 +1,45 @@
+package com.example.demo.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 대용량 파일(면접 음성/영상 등) 저장소
+ * - DB에는 blobId(내용의 SHA-256)만 저장하고 실제 바이트는 저장소에 둠
+ * - 내용 기반 주소: 같은 내용은 한 번만 저장되고, blobId 자체가 강한 ETag로 쓰일 수 있음
+ * - 구현체는 storage.blob.backend 값으로 선택 (기본: local)
+ */
+public interface BlobStorage {
+
+    /**
+     * 스트림 저장 (전체를 메모리에 올리지 않고 청크 단위로 기록)
+     *
+     * @param content 저장할 내용 (호출한 쪽에서 닫음)
+     * @return 저장된 blob 정보
+     */
+    BlobInfo store(InputStream content) throws IOException;
+
+    /**
+     * blob 정보 조회
+     *
+     * @return 없으면 null
+     */
+    BlobInfo stat(String blobId) throws IOException;
+
+    /**
+     * blob 전체 읽기 (청크를 차례로 이어서 읽는 스트림)
+     *
+     * @throws java.io.FileNotFoundException blob이 없음
+     */
+    InputStream open(String blobId) throws IOException;
+
+    /**
+     * 청크가 로컬 파일로 있으면 그 경로 (파일에서 소켓으로 바로 보내는 구간 전송용)
+     *
+     * @return 로컬 파일이 아닌 저장소면 null
+     */
+    default Path localChunkPath(String hash) {
+        return null;
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.demo.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.storage.BlobInfo.Chunk;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 파일시스템 blob 저장소 (외부 서비스 없이 동작)
+ * - 업로드 스트림을 chunkSize 단위로 잘라 임시 파일에 쓰면서 SHA-256 계산 → chunks/ab/cd/{hash}로 이동
+ *   (이미 같은 청크가 있으면 임시 파일만 삭제 → 중복 저장 없음)
+ * - blob 전체 해시(blobId)로 manifests/ab/{blobId}에 청크 목록을 기록
+ * - 모든 파일은 임시 파일에 다 쓴 뒤 원자적으로 이동 → 반쯤 쓴 청크/manifest를 읽는 일이 없음
+ * - 같은 청크를 여러 blob이 공유할 수 있으므로 삭제는 지원하지 않음
+ *
+ * <pre>
+ * root/
+ *   chunks/ab/cd/abcd...(sha256)
+ *   manifests/ef/ef01...(blobId)   ← "size\n" + "hash size\n" × 청크 수
+ *   tmp/
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "storage.blob.backend", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalBlobStorage implements BlobStorage {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path chunksDir;
+    private final Path manifestsDir;
+    private final Path tmpDir;
+    private final long chunkSize;
+
+    public LocalBlobStorage(
+            @Value("${storage.blob.local.root:./data/blobs}") String root,
+            @Value("${storage.blob.chunk-size-bytes:4194304}") long chunkSize) throws IOException {
+        Path rootDir = Paths.get(root).toAbsolutePath();
+        this.chunksDir = Files.createDirectories(rootDir.resolve("chunks"));
+        this.manifestsDir = Files.createDirectories(rootDir.resolve("manifests"));
+        this.tmpDir = Files.createDirectories(rootDir.resolve("tmp"));
+        this.chunkSize = Math.max(BUFFER_SIZE, chunkSize);
+        log.info("로컬 blob 저장소 사용 - 경로: {}, 청크 크기: {} bytes", rootDir, this.chunkSize);
+    }
+
+    @Override
+    public BlobInfo store(InputStream content) throws IOException {
+        MessageDigest blobDigest = sha256();
+        List<Chunk> chunks = new ArrayList<>();
+        long total = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        while (true) {
+            MessageDigest chunkDigest = sha256();
+            Path tmp = Files.createTempFile(tmpDir, "chunk-", ".tmp");
+            long written = 0;
+
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    while (written < chunkSize) {
+                        int read = content.read(buffer, 0, (int) Math.min(buffer.length, chunkSize - written));
+                        if (read < 0) {
+                            break;
+                        }
+                        out.write(buffer, 0, read);
+                        chunkDigest.update(buffer, 0, read);
+                        blobDigest.update(buffer, 0, read);
+                        written += read;
+                    }
+                }
+
+                if (written == 0) {
+                    break;
+                }
+
+                String hash = HexFormat.of().formatHex(chunkDigest.digest());
+                moveIfAbsent(tmp, chunkPath(hash));
+                chunks.add(new Chunk(hash, written));
+                total += written;
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+
+            if (written < chunkSize) {
+                break; // 마지막 청크
+            }
+        }
+
+        BlobInfo blob = new BlobInfo(HexFormat.of().formatHex(blobDigest.digest()), total, List.copyOf(chunks));
+        writeManifest(blob);
+        log.debug("blob 저장 - id: {}, 크기: {} bytes, 청크 {}개", blob.blobId(), total, chunks.size());
+        return blob;
+    }
+
+    @Override
+    public BlobInfo stat(String blobId) throws IOException {
+        Path manifest = manifestPath(blobId);
+        if (!Files.exists(manifest)) {
+            return null;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+            long size = Long.parseLong(reader.readLine().trim());
+            List<Chunk> chunks = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] parts = line.trim().split(" ");
+                chunks.add(new Chunk(parts[0], Long.parseLong(parts[1])));
+            }
+            return new BlobInfo(blobId, size, List.copyOf(chunks));
+        }
+    }
+
+    @Override
+    public InputStream open(String blobId) throws IOException {
+        BlobInfo blob = stat(blobId);
+        if (blob == null) {
+            throw new FileNotFoundException("blob not found: " + blobId);
+        }
+
+        // 청크 파일은 읽을 차례가 됐을 때 연다 (열린 파일 핸들이 청크 수만큼 쌓이지 않도록)
+        Iterator<Chunk> chunks = blob.chunks().iterator();
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            @Override
+            public boolean hasMoreElements() {
+                return chunks.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    return Files.newInputStream(chunkPath(chunks.next().hash()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public Path localChunkPath(String hash) {
+        return chunkPath(hash);
+    }
+
+    private Path chunkPath(String hash) {
+        requireSha256(hash);
+        return chunksDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Path manifestPath(String blobId) {
+        requireSha256(blobId);
+        return manifestsDir.resolve(blobId.substring(0, 2)).resolve(blobId);
+    }
+
+    private void writeManifest(BlobInfo blob) throws IOException {
+        Path manifest = manifestPath(blob.blobId());
+        if (Files.exists(manifest)) {
+            return; // 같은 내용이 이미 저장돼 있음
+        }
+
+        Path tmp = Files.createTempFile(tmpDir, "manifest-", ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                writer.write(Long.toString(blob.size()));
+                writer.newLine();
+                for (Chunk chunk : blob.chunks()) {
+                    writer.write(chunk.hash() + " " + chunk.size());
+                    writer.newLine();
+                }
+            }
+            moveIfAbsent(tmp, manifest);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // 임시 파일을 최종 위치로 원자적 이동 (동시에 같은 내용을 저장한 경우 먼저 이동한 쪽 유지)
+    private static void moveIfAbsent(Path tmp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 다른 요청이 같은 내용을 먼저 저장함
+        }
+    }
+
+    private static void requireSha256(String hash) {
+        if (hash == null || !SHA256_HEX.matcher(hash).matches()) {
+            throw new IllegalArgumentException("잘못된 blob 식별자입니다.");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
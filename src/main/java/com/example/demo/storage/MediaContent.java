@@ -0,0 +1,13 @@
+package com.example.demo.storage;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * 스트리밍으로 내려줄 파일
+ *
+ * @param resource    내용 (BlobResource 또는 기존 bytea의 ByteArrayResource)
+ * @param contentType MIME 타입 (모르면 null)
+ * @param fileName    원본 파일 이름 (모르면 null)
+ */
+public record MediaContent(Resource resource, String contentType, String fileName) {
+}
@@ -0,0 +1,256 @@
+package com.example.demo.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import com.example.demo.storage.BlobInfo.Chunk;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 음성/영상/PDF 스트리밍 응답
+ * - 강한 ETag: blob은 blobId(내용 SHA-256), 기존 bytea는 내용 SHA-256 → If-None-Match 일치 시 304
+ * - Range(bytes=a-b, a-, -n) 한 구간 요청은 206 Partial Content, 시작 위치가 파일 크기 이상(-0 포함)이면 416
+ * - 형식이 잘못된 Range(bytes=5-2, 여러 구간 등)는 무시하고 전체 200
+ * - If-Range가 현재 ETag와 다르면 Range 무시하고 전체 200
+ * - 로컬 blob 저장소의 청크 파일 전송
+ *   · 구간이 청크 하나 안에 있으면 Tomcat sendfile (커널이 파일 → 소켓 직접 전송, JVM 복사 없음)
+ *   · 여러 청크에 걸치면 청크 파일을 차례로 읽어 응답 스트림에 복사 (sendfile은 응답당 파일 하나만 가능 → JVM 버퍼를 거침)
+ *   · 끝이 열린 요청(bytes=a-)은 a가 속한 청크 끝까지만 응답 → 플레이어의 이어지는 요청은 대부분 sendfile 경로
+ */
+@Component
+public class MediaStreamer {
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private final BlobStorage blobStorage;
+
+    public MediaStreamer(BlobStorage blobStorage) {
+        this.blobStorage = blobStorage;
+    }
+
+    /**
+     * 파일을 응답으로 전송
+     */
+    public void stream(MediaContent media, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Resource resource = media.resource();
+        long size = resource.contentLength();
+        String etag = "\"" + contentId(resource) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache"); // 같은 주소의 파일이 바뀔 수 있으므로 매번 ETag로 재검증
+        response.setContentType(media.contentType() != null ? media.contentType() : "application/octet-stream");
+        if (media.fileName() != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                    .filename(media.fileName(), StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+
+        // 캐시된 내용과 같음
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(etag)) {
+            range = null; // 클라이언트가 가진 내용이 바뀜 → 전체 전송
+        }
+
+        long start = 0;
+        long end = size - 1;
+        boolean partial = false;
+        boolean openEnded = false;
+
+        ByteRange requested = parseRange(range);
+        if (requested != null) {
+            if (requested.first() == null) {
+                // bytes=-n : 마지막 n바이트 (n = 0이면 만족할 수 없는 범위)
+                long suffix = requested.last();
+                start = suffix > 0 ? Math.max(0, size - suffix) : size;
+            } else {
+                start = requested.first();
+                if (requested.last() == null) {
+                    openEnded = true;
+                } else {
+                    end = Math.min(end, requested.last());
+                }
+            }
+
+            if (start >= size) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            partial = true;
+        }
+
+        BlobInfo blob = resource instanceof BlobResource blobResource ? blobResource.getBlob() : null;
+        List<ChunkSlice> slices = blob != null ? localSlices(blob, start, end) : null;
+
+        // 끝이 열린 요청은 시작 청크 끝까지만
+        if (partial && openEnded && slices != null && slices.size() > 1) {
+            ChunkSlice first = slices.get(0);
+            end = start + first.length() - 1;
+            slices = List.of(first);
+        }
+
+        long length = end - start + 1;
+        if (partial) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        } else {
+            response.setStatus(HttpStatus.OK.value());
+        }
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (slices != null) {
+            writeSlices(slices, request, response);
+        } else {
+            try (InputStream in = resource.getInputStream()) {
+                StreamUtils.copyRange(in, response.getOutputStream(), start, end);
+            }
+        }
+    }
+
+    // 한 구간 Range 해석 (형식이 잘못됐거나 끝이 시작보다 앞이면 null → Range 무시)
+    private static ByteRange parseRange(String range) {
+        Matcher matcher = range != null ? SINGLE_RANGE.matcher(range.trim()) : null;
+        if (matcher == null || !matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+        try {
+            Long first = matcher.group(1).isEmpty() ? null : Long.valueOf(matcher.group(1));
+            Long last = matcher.group(2).isEmpty() ? null : Long.valueOf(matcher.group(2));
+            if (first != null && last != null && last < first) {
+                return null;
+            }
+            return new ByteRange(first, last);
+        } catch (NumberFormatException e) {
+            return null; // long 범위를 넘는 값
+        }
+    }
+
+    // 로컬 청크 파일로 구간 나누기 (로컬 파일이 아닌 저장소면 null)
+    private List<ChunkSlice> localSlices(BlobInfo blob, long start, long end) {
+        List<ChunkSlice> slices = new ArrayList<>();
+        long chunkStart = 0;
+        for (Chunk chunk : blob.chunks()) {
+            long chunkEnd = chunkStart + chunk.size() - 1;
+            if (chunkEnd >= start && chunkStart <= end) {
+                Path path = blobStorage.localChunkPath(chunk.hash());
+                if (path == null) {
+                    return null;
+                }
+                long from = Math.max(start, chunkStart) - chunkStart;
+                long to = Math.min(end, chunkEnd) - chunkStart;
+                slices.add(new ChunkSlice(path, from, to - from + 1));
+            }
+            if (chunkStart > end) {
+                break;
+            }
+            chunkStart += chunk.size();
+        }
+        return slices;
+    }
+
+    private void writeSlices(List<ChunkSlice> slices, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        // 청크 하나 → Tomcat이 응답을 마칠 때 sendfile로 전송
+        if (slices.size() == 1 && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            ChunkSlice slice = slices.get(0);
+            request.setAttribute(SENDFILE_FILENAME, slice.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, slice.position());
+            request.setAttribute(SENDFILE_END, slice.position() + slice.length()); // 끝 위치는 미포함
+            return;
+        }
+
+        // 여러 청크 → 청크 파일 구간을 차례로 응답 스트림에 복사
+        OutputStream out = response.getOutputStream();
+        for (ChunkSlice slice : slices) {
+            try (InputStream in = Files.newInputStream(slice.path())) {
+                StreamUtils.copyRange(in, out, slice.position(), slice.position() + slice.length() - 1);
+            }
+        }
+        out.flush();
+    }
+
+    // 강한 ETag 값 (blob은 blobId, 그 외에는 내용 SHA-256)
+    private static String contentId(Resource resource) throws IOException {
+        if (resource instanceof BlobResource blobResource) {
+            return blobResource.getBlob().blobId();
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (resource instanceof ByteArrayResource bytes) {
+                return HexFormat.of().formatHex(digest.digest(bytes.getByteArray()));
+            }
+            try (InputStream in = resource.getInputStream()) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // If-None-Match: "*" 또는 쉼표로 구분된 ETag 목록 (W/ 접두어는 비교에서 무시)
+    private static boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.replaceFirst("^W/", "").equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 요청 구간 (first가 null이면 마지막 last바이트, last가 null이면 끝까지)
+    private record ByteRange(Long first, Long last) {
+    }
+
+    // 청크 파일의 전송 구간
+    private record ChunkSlice(Path path, long position, long length) {
+    }
+}
@@ -0,0 +1,10 @@
+-- 기업 검색/인재상 조회 결과 캐시 (운영 DB에 수동 적용)
+-- CompanyLookupCacheService의 2차 캐시: 서버 재시작 후에도 자동완성/인재상 결과 재사용
+
+CREATE TABLE IF NOT EXISTS company_lookup_cache (
+    cache_type    VARCHAR(20)  NOT NULL, -- search / ideal
+    cache_key     VARCHAR(200) NOT NULL, -- 정규화한 검색어 / 기업명
+    value_json    JSONB        NOT NULL,
+    refreshed_at  TIMESTAMP    NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (cache_type, cache_key)
+);
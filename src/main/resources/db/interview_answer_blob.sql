@@ -0,0 +1,6 @@
+-- 면접 답변 음성/영상 blob 저장소 이전 (운영 DB에 수동 적용)
+-- 새 답변은 파일을 BlobStorage에 저장하고 blob ID만 기록 (audio_file_data / video_file_data는 비워 둠)
+-- 기존 답변은 storage.blob.migrate-legacy=true로 기동하면 InterviewMediaMigrationService가 한 건씩 옮김
+
+ALTER TABLE interview_answer ADD COLUMN IF NOT EXISTS audio_blob_id VARCHAR(64);
+ALTER TABLE interview_answer ADD COLUMN IF NOT EXISTS video_blob_id VARCHAR(64);
@@ -0,0 +1,10 @@
+-- 직군 키워드 생성 결과 캐시 (운영 DB에 수동 적용)
+-- JobKeywordCacheService의 영속 캐시: 서버 재시작/여러 인스턴스 간에도 같은 (직군, 직무)는 AI 생성 1회
+
+CREATE TABLE IF NOT EXISTS job_keyword_cache (
+    job_group      VARCHAR(50)  NOT NULL,
+    job_role       VARCHAR(100) NOT NULL DEFAULT '', -- 직무 없음 = ''
+    keywords_json  JSONB        NOT NULL,            -- ["키워드1", "키워드2", ...]
+    generated_at   TIMESTAMP    NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (job_group, job_role)
+);
@@ -0,0 +1,17 @@
+-- LLM 응답 의미 캐시 (운영 DB에 수동 적용)
+-- PgVectorStore 기본 스키마 + text-embedding-3-large(3072차원)
+-- HNSW/IVFFlat 인덱스는 2000차원까지만 지원 → 인덱스 없이 에이전트/해시 필터 후 정확 검색
+
+CREATE EXTENSION IF NOT EXISTS vector;
+CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+
+CREATE TABLE IF NOT EXISTS llm_semantic_cache (
+    id         uuid DEFAULT uuid_generate_v4() PRIMARY KEY,
+    content    text,
+    metadata   json,
+    embedding  vector(3072)
+);
+
+-- 에이전트 + 시스템 프롬프트 해시로 후보를 먼저 좁힘 (PgVectorStore 필터는 metadata::jsonb @@ jsonpath)
+CREATE INDEX IF NOT EXISTS ix_llm_semantic_cache_metadata
+    ON llm_semantic_cache USING GIN ((metadata::jsonb) jsonb_path_ops);
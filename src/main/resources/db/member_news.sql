@@ -0,0 +1,23 @@
+-- 직군 공유 뉴스 저장소: news_summary는 source_url당 1건(1회 분석), 회원별 피드는 member_news로 연결 (운영 DB에 수동 적용)
+-- news_summary.sql의 중복 URL 정리보다 먼저 적용 (중복 행을 수집한 회원도 남길 행으로 연결되도록)
+-- news_summary.member_id는 최초 수집 회원 기록용으로만 남김
+
+CREATE TABLE IF NOT EXISTS member_news (
+    member_id   INTEGER   NOT NULL,
+    summary_id  INTEGER   NOT NULL REFERENCES news_summary (summary_id) ON DELETE CASCADE,
+    created_at  TIMESTAMP NOT NULL DEFAULT NOW(), -- 회원에게 연결된 시각
+    PRIMARY KEY (member_id, summary_id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_member_news_member_created
+    ON member_news (member_id, created_at DESC);
+
+-- 회원별 피드는 member_news로 거르므로 news_summary의 회원별 인덱스는 쓰이지 않음 (저장할 때 유지 비용만 발생)
+DROP INDEX IF EXISTS ix_news_summary_member_published;
+
+-- 기존 데이터 이관
+INSERT INTO member_news (member_id, summary_id, created_at)
+SELECT member_id, summary_id, created_at
+FROM news_summary
+WHERE member_id IS NOT NULL
+ON CONFLICT (member_id, summary_id) DO NOTHING;
@@ -0,0 +1,39 @@
+-- 뉴스 수집 작업 큐 (운영 DB에 수동 적용)
+
+CREATE TABLE IF NOT EXISTS news_ingest_job (
+    job_id          SERIAL PRIMARY KEY,
+    member_id       INTEGER      NOT NULL,
+    job_group       VARCHAR(50)  NOT NULL,
+    fetch_limit     INTEGER      NOT NULL DEFAULT 50,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING', -- PENDING / RUNNING / DONE / FAILED
+    analyzed_count  INTEGER,
+    error_message   TEXT,
+    requested_at    TIMESTAMP    NOT NULL DEFAULT NOW(),
+    started_at      TIMESTAMP,
+    heartbeat_at    TIMESTAMP,                              -- 점유한 워커의 마지막 생존 신호
+    superseded      BOOLEAN      NOT NULL DEFAULT FALSE,    -- 실행 중 직군/직무 변경 → 결과를 연결하지 않고 끝나면 새 직군으로 다시 대기
+    finished_at     TIMESTAMP
+);
+
+-- 이미 테이블을 만든 DB용
+ALTER TABLE news_ingest_job ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP;
+ALTER TABLE news_ingest_job ADD COLUMN IF NOT EXISTS superseded BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 회원 최근 이용 시각 (로그인/피드 조회 시 갱신, 일일 수집 대상 선정용)
+ALTER TABLE member ADD COLUMN IF NOT EXISTS last_active_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS ix_member_last_active
+    ON member (last_active_at);
+
+-- 회원당 진행 중(PENDING/RUNNING) 작업은 1개만
+CREATE UNIQUE INDEX IF NOT EXISTS ux_news_ingest_job_active
+    ON news_ingest_job (member_id)
+    WHERE status IN ('PENDING', 'RUNNING');
+
+-- 워커 점유 쿼리 (직군별 대기 작업)
+CREATE INDEX IF NOT EXISTS ix_news_ingest_job_pending
+    ON news_ingest_job (job_group, requested_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS ix_news_ingest_job_member
+    ON news_ingest_job (member_id, requested_at DESC);
@@ -0,0 +1,62 @@
+-- news_summary 스키마 변경 (운영 DB에 수동 적용)
+-- member_news.sql이 있으면 먼저 적용 (중복 행에 걸린 회원 연결을 남길 행으로 옮기기 위해)
+
+-- 기존 중복 URL 정리: 같은 source_url 중 가장 먼저 저장된 행만 남김 (unique index 생성 전 필수)
+CREATE TEMP TABLE news_summary_dup AS
+SELECT summary_id, member_id, created_at, keep_id
+FROM (
+    SELECT summary_id,
+           member_id,
+           created_at,
+           MIN(summary_id) OVER (PARTITION BY source_url) AS keep_id
+    FROM news_summary
+    WHERE source_url IS NOT NULL
+) t
+WHERE summary_id <> keep_id;
+
+DO $$
+BEGIN
+    IF to_regclass('member_news') IS NOT NULL THEN
+        -- 중복 행에 연결된 회원 + 중복 행을 수집한 회원 → 남길 행으로 연결
+        INSERT INTO member_news (member_id, summary_id, created_at)
+        SELECT mn.member_id, d.keep_id, mn.created_at
+        FROM member_news mn
+        JOIN news_summary_dup d ON d.summary_id = mn.summary_id
+        ON CONFLICT (member_id, summary_id) DO NOTHING;
+
+        INSERT INTO member_news (member_id, summary_id, created_at)
+        SELECT d.member_id, d.keep_id, d.created_at
+        FROM news_summary_dup d
+        WHERE d.member_id IS NOT NULL
+        ON CONFLICT (member_id, summary_id) DO NOTHING;
+    END IF;
+END $$;
+
+DELETE FROM news_summary
+WHERE summary_id IN (SELECT summary_id FROM news_summary_dup);
+
+DROP TABLE news_summary_dup;
+
+-- URL 중복 방지: insertNewsSummary 의 ON CONFLICT (source_url) 대상
+CREATE UNIQUE INDEX IF NOT EXISTS ux_news_summary_source_url
+    ON news_summary (source_url);
+
+-- 피드/검색 부분 일치 검색 컬럼: 제목 + 요약 + 상세 요약 + 키워드 JSON (기존 ILIKE '%키워드%' 조건과 같은 범위)
+-- 한글 복합어 안쪽도 매칭해야 하므로 ("마케팅" → "디지털마케팅") 토큰 단위 tsvector 대신 pg_trgm 트라이그램 인덱스로 ILIKE 가속
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE news_summary
+    ADD COLUMN IF NOT EXISTS search_text TEXT
+    GENERATED ALWAYS AS (
+        coalesce(title, '') || E'\n' ||
+        coalesce(summary_text, '') || E'\n' ||
+        coalesce(detail_summary, '') || E'\n' ||
+        coalesce(CAST(keywords_json AS TEXT), '')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS ix_news_summary_search_text_trgm
+    ON news_summary USING GIN (search_text gin_trgm_ops);
+
+-- 검색 기간 필터 / 최신순 정렬
+CREATE INDEX IF NOT EXISTS ix_news_summary_published
+    ON news_summary (published_at DESC);
@@ -0,0 +1,6 @@
+-- 포트폴리오 PDF blob 저장소 사용 (운영 DB에 수동 적용)
+-- 새 포트폴리오는 PDF를 BlobStorage에 저장하고 blob ID만 기록 (pdf_file은 비워 둠)
+-- 기존 포트폴리오는 pdf_file 그대로 조회/스트리밍
+
+ALTER TABLE portfolio ADD COLUMN IF NOT EXISTS pdf_blob_id VARCHAR(64);
+ALTER TABLE portfolio ALTER COLUMN pdf_file DROP NOT NULL;
@@ -0,0 +1,12 @@
+-- 네이버 데이터랩 일간 검색량 저장소 (운영 DB에 수동 적용)
+-- TrendSeriesService: 한 번 받은 (키워드, 날짜) 값은 다시 받지 않고, 비어 있는 날짜만 추가 수집
+-- ratio는 키워드별로 이어 붙인 기준값이라 같은 키워드 안에서만 비교 가능 (조회 시 기간 최댓값 = 100으로 환산)
+
+CREATE TABLE IF NOT EXISTS trend_daily_ratio (
+    keyword     VARCHAR(100)     NOT NULL,
+    trend_date  DATE             NOT NULL,
+    ratio       DOUBLE PRECISION NOT NULL,
+    fetched_at  TIMESTAMP        NOT NULL DEFAULT NOW(), -- trend_date 당일(또는 그 이전)에 받은 값은 확정 전 값
+    PRIMARY KEY (keyword, trend_date)
+);
+
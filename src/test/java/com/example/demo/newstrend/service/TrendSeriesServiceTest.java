@@ -0,0 +1,265 @@
+package com.example.demo.newstrend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.newstrend.dao.TrendDailyRatioDao;
+import com.example.demo.newstrend.entity.TrendDailyRatio;
+import com.example.demo.newstrend.service.NaverDataLabService.DailyRatio;
+
+class TrendSeriesServiceTest {
+
+    private static final String KEYWORD = "채용";
+    private static final long PROVISIONAL_MINUTES = 360;
+
+    private final LocalDate today = LocalDate.now();
+
+    // 실제 검색량 (데이터랩은 요청 기간의 최댓값 = 100으로 환산해서 돌려줌, 없는 날짜는 검색량 0)
+    private final TreeMap<LocalDate, Double> volumes = new TreeMap<>();
+    // 데이터랩이 집계를 마친 마지막 날짜
+    private LocalDate lastAvailable;
+    // 데이터랩 요청 기록 [시작일, 종료일]
+    private final List<LocalDate[]> calls = new ArrayList<>();
+
+    private InMemoryTrendDailyRatioDao dao;
+    private TrendSeriesService service;
+
+    @BeforeEach
+    void setUp() {
+        for (LocalDate date = today.minusDays(30); !date.isAfter(today); date = date.plusDays(1)) {
+            volumes.put(date, 10.0 + Math.floorMod(date.toEpochDay(), 7) * 5);
+        }
+        lastAvailable = today;
+
+        NaverDataLabService dataLab = mock(NaverDataLabService.class);
+        when(dataLab.fetchDailyRatios(anyList(), any(), any())).thenAnswer(invocation -> {
+            List<String> keywords = invocation.getArgument(0);
+            LocalDate start = invocation.getArgument(1);
+            LocalDate end = invocation.getArgument(2);
+            calls.add(new LocalDate[] { start, end });
+
+            Map<String, List<DailyRatio>> result = new LinkedHashMap<>();
+            for (String keyword : keywords) {
+                result.put(keyword, dataLabSeries(start, end));
+            }
+            return result;
+        });
+
+        dao = new InMemoryTrendDailyRatioDao();
+        service = new TrendSeriesService(dataLab, dao, PROVISIONAL_MINUTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdownFetchExecutor();
+    }
+
+    @Test
+    void firstFetchStoresWholeRangeWithAnchorDays() {
+        volumes.remove(today.minusDays(4)); // 검색량 없는 날 → 데이터랩 응답에서 빠짐
+
+        Map<String, Double> ratios = ratios(service.getTrendData(List.of(KEYWORD), today.minusDays(6), today));
+
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0)).containsExactly(today.minusDays(9), today);
+        assertThat(dao.rows(KEYWORD).keySet()).containsExactlyElementsOf(dates(today.minusDays(9), today));
+        assertThat(dao.rows(KEYWORD).get(today.minusDays(4)).getRatio()).isZero();
+
+        assertThat(ratios).hasSize(7);
+        assertMatchesVolumes(ratios, today.minusDays(6), today);
+    }
+
+    @Test
+    void incrementalFetchRescalesToStoredValuesViaAnchorDays() {
+        // 이전 요청에서 받은 확정 값 (기준이 달라 실제 검색량의 절반으로 저장돼 있음)
+        for (LocalDate date : dates(today.minusDays(12), today.minusDays(3))) {
+            dao.put(row(date, volumes.get(date) * 0.5, date.plusDays(1).atStartOfDay()));
+        }
+
+        Map<String, Double> ratios = ratios(service.getTrendData(List.of(KEYWORD), today.minusDays(9), today));
+
+        // 비어 있는 첫 날짜(today - 2)에서 ANCHOR_DAYS일 앞부터만 요청
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0)).containsExactly(today.minusDays(5), today);
+
+        // 새로 받은 값도 저장된 기준(실제 검색량 × 0.5)으로 이어 붙음
+        for (LocalDate date : dates(today.minusDays(12), today)) {
+            assertThat(dao.rows(KEYWORD).get(date).getRatio()).as(date.toString())
+                    .isCloseTo(volumes.get(date) * 0.5, within(1e-6));
+        }
+        assertMatchesVolumes(ratios, today.minusDays(9), today);
+    }
+
+    @Test
+    void fetchWithoutOverlapDeletesOlderHistory() {
+        // 조회 기간과 겹치지 않는 오래된 기록 → 기준을 맞출 수 없음
+        for (LocalDate date : dates(today.minusDays(20), today.minusDays(15))) {
+            dao.put(row(date, 42.0, date.plusDays(1).atStartOfDay()));
+        }
+
+        Map<String, Double> ratios = ratios(service.getTrendData(List.of(KEYWORD), today.minusDays(6), today));
+
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0)).containsExactly(today.minusDays(9), today);
+        assertThat(dao.rows(KEYWORD).firstKey()).isEqualTo(today.minusDays(9));
+        assertThat(dao.rows(KEYWORD).keySet()).containsExactlyElementsOf(dates(today.minusDays(9), today));
+        assertMatchesVolumes(ratios, today.minusDays(6), today);
+    }
+
+    @Test
+    void trailingDaysNotYetAggregatedAreLeftEmptyAndNotRefetchedWithinTtl() {
+        lastAvailable = today.minusDays(2);
+
+        Map<String, Double> first = ratios(service.getTrendData(List.of(KEYWORD), today.minusDays(6), today));
+
+        // 집계 전 날짜는 0으로 저장하지 않고 응답에서도 뺌
+        assertThat(dao.rows(KEYWORD).lastKey()).isEqualTo(today.minusDays(2));
+        assertThat(first.keySet()).containsExactlyElementsOf(
+                dates(today.minusDays(6), today.minusDays(2)).stream().map(LocalDate::toString).toList());
+        assertMatchesVolumes(first, today.minusDays(6), today.minusDays(2));
+
+        // provisionalTtl 안에는 같은 빈 날짜를 다시 요청하지 않음
+        Map<String, Double> second = ratios(service.getTrendData(List.of(KEYWORD), today.minusDays(6), today));
+
+        assertThat(calls).hasSize(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void provisionalDayIsReusedWithinTtl() {
+        storeFinalDaysAndToday(LocalDateTime.now().minusMinutes(10));
+
+        service.getTrendData(List.of(KEYWORD), today.minusDays(6), today);
+
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    void provisionalDayIsRefetchedAfterTtl() {
+        LocalDateTime staleFetchedAt = LocalDateTime.now().minusMinutes(PROVISIONAL_MINUTES + 60);
+        storeFinalDaysAndToday(staleFetchedAt);
+        volumes.put(today, volumes.get(today) * 3); // 오늘 검색량이 그 사이 늘어남
+
+        Map<String, Double> ratios = ratios(service.getTrendData(List.of(KEYWORD), today.minusDays(6), today));
+
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0)).containsExactly(today.minusDays(3), today);
+
+        TrendDailyRatio refreshed = dao.rows(KEYWORD).get(today);
+        assertThat(refreshed.getFetchedAt()).isAfter(staleFetchedAt);
+        assertThat(refreshed.getRatio()).isCloseTo(volumes.get(today), within(1e-6));
+        assertMatchesVolumes(ratios, today.minusDays(6), today);
+    }
+
+    // 실제 검색량 그대로의 확정 값 (today - 9 ~ today - 1) + 오늘의 확정 전 값
+    private void storeFinalDaysAndToday(LocalDateTime todayFetchedAt) {
+        for (LocalDate date : dates(today.minusDays(9), today.minusDays(1))) {
+            dao.put(row(date, volumes.get(date), date.plusDays(1).atStartOfDay()));
+        }
+        dao.put(row(today, volumes.get(today), todayFetchedAt));
+    }
+
+    // 응답 값이 실제 검색량을 기간 최댓값 = 100으로 환산한 값과 같은지
+    private void assertMatchesVolumes(Map<String, Double> ratios, LocalDate from, LocalDate to) {
+        double max = dates(from, to).stream().mapToDouble(date -> volumes.getOrDefault(date, 0.0)).max().orElse(0);
+        for (LocalDate date : dates(from, to)) {
+            double expected = volumes.getOrDefault(date, 0.0) * 100 / max;
+            assertThat(ratios.get(date.toString())).as(date.toString()).isCloseTo(expected, within(1e-4));
+        }
+    }
+
+    // 데이터랩 응답 흉내 (집계 전 날짜와 검색량 없는 날짜는 빠짐)
+    private List<DailyRatio> dataLabSeries(LocalDate start, LocalDate end) {
+        LocalDate last = end.isAfter(lastAvailable) ? lastAvailable : end;
+        double max = 0;
+        for (LocalDate date : dates(start, last)) {
+            max = Math.max(max, volumes.getOrDefault(date, 0.0));
+        }
+        List<DailyRatio> series = new ArrayList<>();
+        for (LocalDate date : dates(start, last)) {
+            Double volume = volumes.get(date);
+            if (volume != null) {
+                series.add(new DailyRatio(date, volume * 100 / max));
+            }
+        }
+        return series;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Double> ratios(Map<String, Object> trendData) {
+        Map<String, Object> response = (Map<String, Object>) trendData.get(KEYWORD);
+        Map<String, Object> result = ((List<Map<String, Object>>) response.get("results")).get(0);
+        Map<String, Double> ratios = new LinkedHashMap<>();
+        for (Map<String, Object> point : (List<Map<String, Object>>) result.get("data")) {
+            ratios.put((String) point.get("period"), (Double) point.get("ratio"));
+        }
+        return ratios;
+    }
+
+    private static List<LocalDate> dates(LocalDate from, LocalDate to) {
+        return from.datesUntil(to.plusDays(1)).toList();
+    }
+
+    private static TrendDailyRatio row(LocalDate date, double ratio, LocalDateTime fetchedAt) {
+        TrendDailyRatio row = new TrendDailyRatio();
+        row.setKeyword(KEYWORD);
+        row.setTrendDate(date);
+        row.setRatio(ratio);
+        row.setFetchedAt(fetchedAt);
+        return row;
+    }
+
+    // trend_daily_ratio 테이블 대신 쓰는 메모리 저장소
+    private static class InMemoryTrendDailyRatioDao implements TrendDailyRatioDao {
+
+        private final Map<String, TreeMap<LocalDate, TrendDailyRatio>> table = new LinkedHashMap<>();
+
+        TreeMap<LocalDate, TrendDailyRatio> rows(String keyword) {
+            return table.getOrDefault(keyword, new TreeMap<>());
+        }
+
+        void put(TrendDailyRatio row) {
+            table.computeIfAbsent(row.getKeyword(), k -> new TreeMap<>()).put(row.getTrendDate(), row);
+        }
+
+        @Override
+        public synchronized List<TrendDailyRatio> selectDailyRatios(List<String> keywords, LocalDate startDate,
+                LocalDate endDate) {
+            List<TrendDailyRatio> result = new ArrayList<>();
+            for (String keyword : keywords) {
+                result.addAll(rows(keyword).subMap(startDate, true, endDate, true).values());
+            }
+            return result;
+        }
+
+        @Override
+        public synchronized int upsertDailyRatios(List<TrendDailyRatio> ratios) {
+            ratios.forEach(this::put);
+            return ratios.size();
+        }
+
+        @Override
+        public synchronized int deleteDailyRatiosBefore(String keyword, LocalDate beforeDate) {
+            Map<LocalDate, TrendDailyRatio> before = rows(keyword).headMap(beforeDate);
+            int deleted = before.size();
+            before.clear();
+            return deleted;
+        }
+    }
+}
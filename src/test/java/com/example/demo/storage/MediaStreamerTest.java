@@ -0,0 +1,166 @@
+package com.example.demo.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class MediaStreamerTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024; // LocalBlobStorage 최소 청크 크기
+    private static final int SIZE = CHUNK_SIZE * 2 + 100; // 청크 3개
+
+    @TempDir
+    Path root;
+
+    private byte[] data;
+    private MediaContent media;
+    private MediaStreamer streamer;
+    private String etag;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        data = new byte[SIZE];
+        new Random(42).nextBytes(data);
+
+        LocalBlobStorage storage = new LocalBlobStorage(root.toString(), CHUNK_SIZE);
+        BlobInfo blob = storage.store(new ByteArrayInputStream(data));
+        assertThat(blob.chunks()).hasSize(3);
+
+        media = new MediaContent(new BlobResource(storage, blob), "video/webm", "answer.webm");
+        streamer = new MediaStreamer(storage);
+        etag = "\"" + blob.blobId() + "\"";
+    }
+
+    @Test
+    void noRangeSendsWholeFile() throws Exception {
+        MockHttpServletResponse response = stream(request());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.getContentAsByteArray()).isEqualTo(data);
+    }
+
+    @Test
+    void suffixRangeSendsLastBytes() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-100");
+
+        MockHttpServletResponse response = stream(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE))
+                .isEqualTo("bytes " + (SIZE - 100) + "-" + (SIZE - 1) + "/" + SIZE);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(data, SIZE - 100, SIZE));
+    }
+
+    @Test
+    void openEndedRangeStopsAtEndOfStartChunk() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+
+        MockHttpServletResponse response = stream(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE))
+                .isEqualTo("bytes 10-" + (CHUNK_SIZE - 1) + "/" + SIZE);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(data, 10, CHUNK_SIZE));
+    }
+
+    @Test
+    void closedRangeAcrossChunksIsCopiedInOrder() throws Exception {
+        int start = CHUNK_SIZE - 500;
+        int end = CHUNK_SIZE * 2 + 50;
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=" + start + "-" + end);
+
+        MockHttpServletResponse response = stream(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes " + start + "-" + end + "/" + SIZE);
+        assertThat(response.getContentLengthLong()).isEqualTo(end - start + 1);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(data, start, end + 1));
+    }
+
+    @Test
+    void rangeInsideOneChunkUsesSendfile() throws Exception {
+        MockHttpServletRequest request = request();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=" + (CHUNK_SIZE + 10) + "-" + (CHUNK_SIZE + 19));
+
+        MockHttpServletResponse response = stream(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty(); // 본문은 Tomcat이 파일에서 직접 전송
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNotNull();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(10L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(20L);
+    }
+
+    @Test
+    void rangeStartingPastEndIsNotSatisfiable() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=" + SIZE + "-");
+
+        MockHttpServletResponse response = stream(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + SIZE);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void invalidRangeIsIgnored() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-2");
+
+        MockHttpServletResponse response = stream(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(data);
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/" + etag);
+
+        MockHttpServletResponse response = stream(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void staleIfRangeSendsWholeFile() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+        MockHttpServletResponse response = stream(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(data);
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/interview/answer-media");
+    }
+
+    private MockHttpServletResponse stream(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        streamer.stream(media, request, response);
+        return response;
+    }
+}